@@ -6,22 +6,35 @@ import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.memory.InMemoryChatMemory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.codec.CodecConfigurer;
-import org.springframework.http.codec.ServerCodecConfigurer;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.zalando.logbook.Logbook;
 import org.zalando.logbook.spring.LogbookClientHttpRequestInterceptor;
 
-@EnableAsync
 @SpringBootApplication
 public class MlbApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(MlbApplication.class, args);
+        SpringApplication application = new SpringApplication(MlbApplication.class);
+        application.addListeners(virtualBoundedElastic());
+        application.run(args);
+    }
+
+    /**
+     * With {@code spring.threads.virtual.enabled} Boot moves Tomcat, async request handling and scheduling
+     * onto virtual threads; this does the same for Reactor's boundedElastic scheduler (file reads, archive
+     * queries), which reads its setting once when Reactor initializes.
+     */
+    private static ApplicationListener<ApplicationEnvironmentPreparedEvent> virtualBoundedElastic() {
+        return event -> {
+            if (event.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                System.getProperties().putIfAbsent("reactor.schedulers.defaultBoundedElasticOnVirtualThreads", "true");
+            }
+        };
     }
 
 
@@ -48,9 +61,4 @@ public class MlbApplication {
         return WebClient.builder();
     }
 
-    @Bean
-    public ServerCodecConfigurer serverCodecConfigurer() {
-        return ServerCodecConfigurer.create();
-    }
-
 }
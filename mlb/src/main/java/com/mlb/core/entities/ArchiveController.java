@@ -0,0 +1,44 @@
+package com.mlb.core.entities;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/archive")
+public class ArchiveController {
+
+    private final SeasonBackfillService backfillService;
+    private final WinExpectancyTables winExpectancyTables;
+
+    @PostMapping("/seasons/{season}/backfill")
+    public ResponseEntity<BackfillStatus> startBackfill(@PathVariable int season) {
+        return new ResponseEntity<>(backfillService.start(season), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/seasons/{season}/backfill")
+    public ResponseEntity<BackfillStatus> getBackfill(@PathVariable int season) {
+        BackfillStatus status = backfillService.getStatus(season);
+        return status == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(status);
+    }
+
+    /**
+     * Rebuilds the run-expectancy and win-probability tables from the archive in the background.
+     */
+    @PostMapping("/tables")
+    public ResponseEntity<Void> rebuildTables() {
+        Mono.fromCallable(() -> {
+                    winExpectancyTables.rebuild();
+                    return true;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, error -> log.error("Error rebuilding win expectancy tables: ", error));
+        return ResponseEntity.accepted().build();
+    }
+}
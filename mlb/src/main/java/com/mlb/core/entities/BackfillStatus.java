@@ -0,0 +1,20 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Data
+public class BackfillStatus {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final int season;
+    private volatile State state = State.RUNNING;
+    private volatile int totalGames;
+    private volatile int resumedFromCheckpoint;
+    private final AtomicInteger archived = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+}
@@ -0,0 +1,60 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Point-in-time box score of one game, including every completed play up to {@code throughAtBatIndex}.
+ */
+@Data
+public class BoxScore {
+    private String gameId;
+    private int throughAtBatIndex;
+    private TeamBox away;
+    private TeamBox home;
+
+    @Data
+    public static class TeamBox {
+        private int runs;
+        private int hits;
+        private int errors;
+        private List<Integer> runsByInning = new ArrayList<>();
+        private List<Integer> hitsByInning = new ArrayList<>();
+        private List<Integer> errorsByInning = new ArrayList<>();
+        private List<BattingLine> batting = new ArrayList<>();
+        private List<PitchingLine> pitching = new ArrayList<>();
+    }
+
+    @Data
+    public static class BattingLine {
+        private int playerId;
+        private String name;
+        private int plateAppearances;
+        private int atBats;
+        private int runs;
+        private int hits;
+        private int doubles;
+        private int triples;
+        private int homeRuns;
+        private int rbi;
+        private int walks;
+        private int strikeouts;
+    }
+
+    @Data
+    public static class PitchingLine {
+        private int playerId;
+        private String name;
+        private String inningsPitched;
+        private int battersFaced;
+        private int hits;
+        private int runs;
+        private int earnedRuns;
+        private int walks;
+        private int strikeouts;
+        private int homeRuns;
+        private int pitches;
+    }
+}
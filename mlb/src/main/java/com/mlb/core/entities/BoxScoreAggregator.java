@@ -0,0 +1,247 @@
+package com.mlb.core.entities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Box score of one game folded one completed play at a time, so it never needs the full feed again.
+ * Player lines are primitive counter arrays keyed by player id; inning totals are per-team arrays.
+ * Thread-safe: the ingestion loop folds while request threads take snapshots.
+ */
+public class BoxScoreAggregator {
+    private static final int AWAY = 0;
+    private static final int HOME = 1;
+
+    // Batting counters
+    private static final int PA = 0, AB = 1, R = 2, H = 3, DOUBLES = 4, TRIPLES = 5, HR = 6, RBI = 7, BB = 8, SO = 9;
+    private static final int BATTING_COUNTERS = 10;
+    // Pitching counters
+    private static final int BF = 0, OUTS = 1, P_H = 2, P_R = 3, ER = 4, P_BB = 5, P_SO = 6, P_HR = 7, PITCHES = 8;
+    private static final int PITCHING_COUNTERS = 9;
+
+    private static final Set<String> HITS = Set.of("single", "double", "triple", "home_run");
+    private static final Set<String> WALKS = Set.of("walk", "intent_walk");
+    private static final Set<String> NOT_AT_BATS = Set.of("walk", "intent_walk", "hit_by_pitch", "sac_fly",
+            "sac_bunt", "sac_fly_double_play", "sac_bunt_double_play", "catcher_interf");
+    private static final Set<String> STRIKEOUTS = Set.of("strikeout", "strikeout_double_play",
+            "strikeout_triple_play");
+
+    private final String gameId;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Insertion order keeps batters roughly in lineup order and pitchers in order of appearance
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, int[]>[] batting = new Map[]{new LinkedHashMap<>(), new LinkedHashMap<>()};
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, int[]>[] pitching = new Map[]{new LinkedHashMap<>(), new LinkedHashMap<>()};
+    private final Map<Integer, String> names = new HashMap<>();
+    private final int[][] runsByInning = {new int[9], new int[9]};
+    private final int[][] hitsByInning = {new int[9], new int[9]};
+    private final int[][] errorsByInning = {new int[9], new int[9]};
+    private final int[] inningsPlayed = new int[2];
+
+    private int throughAtBatIndex = -1;
+    private int halfInning = -1;
+    private int outsInHalf;
+
+    public BoxScoreAggregator(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public int getThroughAtBatIndex() {
+        return throughAtBatIndex;
+    }
+
+    /**
+     * Folds a completed play in. Plays at or before the last folded one are ignored, so feeding
+     * overlapping polls is safe.
+     */
+    public void fold(MLBGameFeed.PlayEvent play) {
+        lock.lock();
+        try {
+            if (!play.getAbout().isComplete() || play.getAbout().getAtBatIndex() <= throughAtBatIndex) {
+                return;
+            }
+            throughAtBatIndex = play.getAbout().getAtBatIndex();
+
+            boolean top = "top".equalsIgnoreCase(play.getAbout().getHalfInning());
+            int offense = top ? AWAY : HOME;
+            int defense = top ? HOME : AWAY;
+            int inning = Math.max(1, play.getAbout().getInning()) - 1;
+            int half = inning * 2 + (top ? 0 : 1);
+            if (half != halfInning) {
+                halfInning = half;
+                outsInHalf = 0;
+            }
+            ensureInning(offense, inning);
+            ensureInning(defense, inning);
+
+            String eventType = play.getResult().getEventType() != null ? play.getResult().getEventType() : "";
+            MLBGameFeed.Batter batter = play.getMatchup() != null ? play.getMatchup().getBatter() : null;
+            MLBGameFeed.Pitcher pitcher = play.getMatchup() != null ? play.getMatchup().getPitcher() : null;
+            // Without a batter or pitcher the player lines are skipped, team totals still count the play
+            int[] bat = new int[BATTING_COUNTERS];
+            int[] pitch = new int[PITCHING_COUNTERS];
+            if (batter != null) {
+                names.putIfAbsent(batter.getId(), batter.getFullName());
+                bat = line(batting[offense], batter.getId(), BATTING_COUNTERS);
+            }
+            if (pitcher != null) {
+                names.putIfAbsent(pitcher.getId(), pitcher.getFullName());
+                pitch = line(pitching[defense], pitcher.getId(), PITCHING_COUNTERS);
+            }
+            bat[PA]++;
+            pitch[BF]++;
+            if (!NOT_AT_BATS.contains(eventType)) {
+                bat[AB]++;
+            }
+            if (HITS.contains(eventType)) {
+                bat[H]++;
+                pitch[P_H]++;
+                hitsByInning[offense][inning]++;
+            }
+            switch (eventType) {
+                case "double" -> bat[DOUBLES]++;
+                case "triple" -> bat[TRIPLES]++;
+                case "home_run" -> {
+                    bat[HR]++;
+                    pitch[P_HR]++;
+                }
+                default -> { }
+            }
+            if (WALKS.contains(eventType)) {
+                bat[BB]++;
+                pitch[P_BB]++;
+            }
+            if (STRIKEOUTS.contains(eventType)) {
+                bat[SO]++;
+                pitch[P_SO]++;
+            }
+            bat[RBI] += play.getResult().getRbi();
+            pitch[PITCHES] += play.getPitchIndex() != null ? play.getPitchIndex().size() : 0;
+
+            int outs = play.getCount() != null ? Math.min(3, play.getCount().getOuts()) : outsInHalf;
+            pitch[OUTS] += Math.max(0, outs - outsInHalf);
+            outsInHalf = outs;
+
+            foldRunners(play, offense, defense, inning, pitcher != null ? pitcher.getId() : null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void foldRunners(MLBGameFeed.PlayEvent play, int offense, int defense, int inning, Integer pitcherId) {
+        if (play.getRunners() == null) {
+            return;
+        }
+        Set<Integer> errorFielders = new HashSet<>();
+        for (MLBGameFeed.Runner runner : play.getRunners()) {
+            MLBGameFeed.RunnerDetails details = runner.getDetails();
+            if (runner.getMovement() != null && "score".equals(runner.getMovement().getEnd()) && details != null
+                    && details.getRunner() != null) {
+                names.putIfAbsent(details.getRunner().getId(), details.getRunner().getFullName());
+                line(batting[offense], details.getRunner().getId(), BATTING_COUNTERS)[R]++;
+
+                Integer responsible = details.getResponsiblePitcher() != null
+                        ? Integer.valueOf(details.getResponsiblePitcher().getId())
+                        : pitcherId;
+                if (responsible != null) {
+                    int[] pitch = line(pitching[defense], responsible, PITCHING_COUNTERS);
+                    pitch[P_R]++;
+                    if (details.isEarned()) {
+                        pitch[ER]++;
+                    }
+                }
+                runsByInning[offense][inning]++;
+            }
+            if (runner.getCredits() != null) {
+                for (MLBGameFeed.Credit credit : runner.getCredits()) {
+                    // The same error shows up on every runner it moved, count it once per fielder
+                    if (credit.getCredit() != null && credit.getCredit().endsWith("_error") && credit.getPlayer() != null
+                            && errorFielders.add(credit.getPlayer().getId())) {
+                        errorsByInning[defense][inning]++;
+                    }
+                }
+            }
+        }
+    }
+
+    public BoxScore snapshot() {
+        lock.lock();
+        try {
+            BoxScore boxScore = new BoxScore();
+            boxScore.setGameId(gameId);
+            boxScore.setThroughAtBatIndex(throughAtBatIndex);
+            boxScore.setAway(teamBox(AWAY));
+            boxScore.setHome(teamBox(HOME));
+            return boxScore;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private BoxScore.TeamBox teamBox(int team) {
+        BoxScore.TeamBox box = new BoxScore.TeamBox();
+        for (int inning = 0; inning < inningsPlayed[team]; inning++) {
+            box.getRunsByInning().add(runsByInning[team][inning]);
+            box.getHitsByInning().add(hitsByInning[team][inning]);
+            box.getErrorsByInning().add(errorsByInning[team][inning]);
+            box.setRuns(box.getRuns() + runsByInning[team][inning]);
+            box.setHits(box.getHits() + hitsByInning[team][inning]);
+            box.setErrors(box.getErrors() + errorsByInning[team][inning]);
+        }
+
+        batting[team].forEach((playerId, counters) -> {
+            BoxScore.BattingLine line = new BoxScore.BattingLine();
+            line.setPlayerId(playerId);
+            line.setName(names.get(playerId));
+            line.setPlateAppearances(counters[PA]);
+            line.setAtBats(counters[AB]);
+            line.setRuns(counters[R]);
+            line.setHits(counters[H]);
+            line.setDoubles(counters[DOUBLES]);
+            line.setTriples(counters[TRIPLES]);
+            line.setHomeRuns(counters[HR]);
+            line.setRbi(counters[RBI]);
+            line.setWalks(counters[BB]);
+            line.setStrikeouts(counters[SO]);
+            box.getBatting().add(line);
+        });
+
+        pitching[team].forEach((playerId, counters) -> {
+            BoxScore.PitchingLine line = new BoxScore.PitchingLine();
+            line.setPlayerId(playerId);
+            line.setName(names.get(playerId));
+            line.setInningsPitched(counters[OUTS] / 3 + "." + counters[OUTS] % 3);
+            line.setBattersFaced(counters[BF]);
+            line.setHits(counters[P_H]);
+            line.setRuns(counters[P_R]);
+            line.setEarnedRuns(counters[ER]);
+            line.setWalks(counters[P_BB]);
+            line.setStrikeouts(counters[P_SO]);
+            line.setHomeRuns(counters[P_HR]);
+            line.setPitches(counters[PITCHES]);
+            box.getPitching().add(line);
+        });
+        return box;
+    }
+
+    private void ensureInning(int team, int inning) {
+        if (inning >= runsByInning[team].length) {
+            int length = Math.max(inning + 1, runsByInning[team].length * 2);
+            runsByInning[team] = Arrays.copyOf(runsByInning[team], length);
+            hitsByInning[team] = Arrays.copyOf(hitsByInning[team], length);
+            errorsByInning[team] = Arrays.copyOf(errorsByInning[team], length);
+        }
+        inningsPlayed[team] = Math.max(inningsPlayed[team], inning + 1);
+    }
+
+    private static int[] line(Map<Integer, int[]> lines, int playerId, int counters) {
+        return lines.computeIfAbsent(playerId, id -> new int[counters]);
+    }
+}
@@ -0,0 +1,190 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds {@link CatchUpSummary catch-up summaries} from the completed plays of a feed. The narrative costs
+ * at most one model call per game and ingestion head: every viewer joining at the same point shares it,
+ * and a late or failed call falls back to a narrative rendered from the summary itself.
+ */
+@Slf4j
+@Service
+public class CatchUpSummarizer {
+    private final CommentaryDispatcher commentaryDispatcher;
+    private final WinExpectancyTables winExpectancyTables;
+    private final ObjectMapper objectMapper;
+    private final int keyPlays;
+    private final Duration narrativeTimeout;
+
+    // Latest narrative per game, replaced when the head moves
+    private final Map<String, CachedNarrative> narratives = new ConcurrentHashMap<>();
+
+    private record CachedNarrative(int throughAtBatIndex, CompletableFuture<String> narrative) {
+    }
+
+    @Autowired
+    public CatchUpSummarizer(CommentaryDispatcher commentaryDispatcher, WinExpectancyTables winExpectancyTables,
+                             ObjectMapper objectMapper,
+                             @Value("${mlb.catchup.key-plays:5}") int keyPlays,
+                             @Value("${mlb.catchup.narrative-timeout:5s}") Duration narrativeTimeout) {
+        this.commentaryDispatcher = commentaryDispatcher;
+        this.winExpectancyTables = winExpectancyTables;
+        this.objectMapper = objectMapper;
+        this.keyPlays = keyPlays;
+        this.narrativeTimeout = narrativeTimeout;
+    }
+
+    /**
+     * Summary of every completed play of {@code feed}, with its narrative. Emits after at most the narrative timeout.
+     */
+    public Mono<CatchUpSummary> summarize(String gameId, MLBGameFeed feed, boolean gameOver) {
+        CatchUpSummary summary = new CatchUpSummary();
+        summary.setGameId(gameId);
+        summary.setGameOver(gameOver);
+        summary.setThroughAtBatIndex(-1);
+        summary.setAwayTeam(feed.getGameData().getTeams().getAway().getName());
+        summary.setHomeTeam(feed.getGameData().getTeams().getHome().getName());
+
+        GameStateEngine stateEngine = new GameStateEngine(winExpectancyTables);
+        List<CatchUpSummary.KeyPlay> scoringPlays = new ArrayList<>();
+        MLBGameFeed.PlayEvent last = null;
+        List<MLBGameFeed.PlayEvent> plays = feed.getLiveData().getPlays() != null
+                ? feed.getLiveData().getPlays().getAllPlays()
+                : null;
+        for (MLBGameFeed.PlayEvent play : plays != null ? plays : List.<MLBGameFeed.PlayEvent>of()) {
+            if (!play.getAbout().isComplete()) {
+                continue;
+            }
+            stateEngine.apply(play);
+            last = play;
+            int awayScore = play.getResult().getAwayScore() != null ? play.getResult().getAwayScore() : summary.getAwayScore();
+            int homeScore = play.getResult().getHomeScore() != null ? play.getResult().getHomeScore() : summary.getHomeScore();
+            if (awayScore != summary.getAwayScore() || homeScore != summary.getHomeScore()) {
+                CatchUpSummary.ScoreChange change = new CatchUpSummary.ScoreChange();
+                change.setAtBatIndex(play.getAbout().getAtBatIndex());
+                change.setInning(play.getAbout().getInning());
+                change.setHalfInning(play.getAbout().getHalfInning());
+                change.setAwayScore(awayScore);
+                change.setHomeScore(homeScore);
+                change.setEvent(play.getResult().getEvent());
+                summary.getScoreProgression().add(change);
+            }
+            summary.setAwayScore(awayScore);
+            summary.setHomeScore(homeScore);
+            summary.setThroughAtBatIndex(play.getAbout().getAtBatIndex());
+
+            if (play.getAbout().isScoringPlay()) {
+                CatchUpSummary.KeyPlay keyPlay = new CatchUpSummary.KeyPlay();
+                keyPlay.setAtBatIndex(play.getAbout().getAtBatIndex());
+                keyPlay.setInning(play.getAbout().getInning());
+                keyPlay.setHalfInning(play.getAbout().getHalfInning());
+                keyPlay.setDescription(play.getResult().getDescription());
+                double wpa = stateEngine.winProbabilityAdded();
+                keyPlay.setWinProbabilityAdded(Double.isNaN(wpa) ? null : Math.round(wpa * 1000) / 1000.0);
+                scoringPlays.add(keyPlay);
+            }
+        }
+
+        // Biggest swings first (unknown counts as none), then back in game order
+        scoringPlays.sort(Comparator.comparingDouble((CatchUpSummary.KeyPlay play) ->
+                play.getWinProbabilityAdded() != null ? -Math.abs(play.getWinProbabilityAdded()) : 0.0));
+        scoringPlays.stream()
+                .limit(keyPlays)
+                .sorted(Comparator.comparingInt(CatchUpSummary.KeyPlay::getAtBatIndex))
+                .forEach(summary.getKeyPlays()::add);
+
+        MLBGameFeed.PlayEvent current = feed.getLiveData().getPlays() != null
+                && feed.getLiveData().getPlays().getCurrentPlay() != null
+                ? feed.getLiveData().getPlays().getCurrentPlay()
+                : last;
+        if (current != null) {
+            summary.setInning(capitalize(current.getAbout().getHalfInning()) + " " + current.getAbout().getInning());
+            if (!gameOver) {
+                CatchUpSummary.Matchup matchup = new CatchUpSummary.Matchup();
+                matchup.setBatter(current.getMatchup().getBatter().getFullName());
+                matchup.setPitcher(current.getMatchup().getPitcher().getFullName());
+                matchup.setBalls(current.getCount().getBalls());
+                matchup.setStrikes(current.getCount().getStrikes());
+                matchup.setOuts(current.getCount().getOuts());
+                summary.setCurrentMatchup(matchup);
+            }
+        }
+        summary.setGameState(stateEngine.toContext());
+        return narrative(summary).map(narrative -> {
+            summary.setNarrative(narrative);
+            return summary;
+        });
+    }
+
+    private Mono<String> narrative(CatchUpSummary summary) {
+        CachedNarrative cached = narratives.compute(summary.getGameId(), (gameId, existing) ->
+                existing != null && existing.throughAtBatIndex() == summary.getThroughAtBatIndex()
+                        ? existing
+                        : new CachedNarrative(summary.getThroughAtBatIndex(), requestNarrative(summary)));
+        // Waits on a dependent future, so a timeout or a viewer leaving doesn't cancel the shared call,
+        // which keeps running for the viewers that join next
+        return Mono.fromFuture(cached.narrative()
+                        .thenApply(narrative -> narrative != null ? narrative : templateNarrative(summary)))
+                .timeout(narrativeTimeout)
+                .onErrorResume(error -> {
+                    log.warn("Catch-up narrative for game {} not ready, using template: {}",
+                            summary.getGameId(), error.toString());
+                    return Mono.fromSupplier(() -> templateNarrative(summary));
+                });
+    }
+
+    private CompletableFuture<String> requestNarrative(CatchUpSummary summary) {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("task", "Summarize the game so far in three or four sentences for a viewer who just tuned in");
+        context.put("awayTeam", summary.getAwayTeam());
+        context.put("homeTeam", summary.getHomeTeam());
+        context.put("score", Map.of("away", summary.getAwayScore(), "home", summary.getHomeScore()));
+        context.put("inning", summary.getInning());
+        context.put("gameOver", summary.isGameOver());
+        context.put("keyPlays", summary.getKeyPlays());
+        context.put("currentMatchup", summary.getCurrentMatchup());
+        try {
+            return commentaryDispatcher.submit("catchup-" + summary.getGameId(),
+                            objectMapper.writeValueAsString(context), CommentaryPriority.CATCH_UP)
+                    .exceptionally(error -> templateNarrative(summary));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.completedFuture(templateNarrative(summary));
+        }
+    }
+
+    private String templateNarrative(CatchUpSummary summary) {
+        StringBuilder text = new StringBuilder();
+        text.append(summary.getAwayTeam()).append(' ').append(summary.getAwayScore()).append(", ")
+                .append(summary.getHomeTeam()).append(' ').append(summary.getHomeScore());
+        if (summary.isGameOver()) {
+            text.append(", final.");
+        } else if (summary.getInning() != null) {
+            text.append(" in the ").append(summary.getInning().toLowerCase()).append('.');
+        } else {
+            text.append('.');
+        }
+        for (CatchUpSummary.KeyPlay play : summary.getKeyPlays()) {
+            text.append(' ').append(play.getDescription());
+        }
+        return text.toString();
+    }
+
+    private static String capitalize(String value) {
+        return value == null || value.isEmpty() ? "" : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
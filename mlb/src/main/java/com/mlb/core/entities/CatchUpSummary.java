@@ -0,0 +1,56 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact state of a game for a viewer joining mid-game, covering every completed play up to
+ * {@code throughAtBatIndex}. Sent as a single {@code catchup} event before the stream goes live.
+ */
+@Data
+public class CatchUpSummary {
+    private String gameId;
+    private int throughAtBatIndex;
+    private boolean gameOver;
+    private String awayTeam;
+    private String homeTeam;
+    private int awayScore;
+    private int homeScore;
+    private String inning;
+    private List<ScoreChange> scoreProgression = new ArrayList<>();
+    private List<KeyPlay> keyPlays = new ArrayList<>();
+    private Matchup currentMatchup;
+    private Map<String, Object> gameState;
+    private String narrative;
+
+    @Data
+    public static class ScoreChange {
+        private int atBatIndex;
+        private int inning;
+        private String halfInning;
+        private int awayScore;
+        private int homeScore;
+        private String event;
+    }
+
+    @Data
+    public static class KeyPlay {
+        private int atBatIndex;
+        private int inning;
+        private String halfInning;
+        private String description;
+        private Double winProbabilityAdded;
+    }
+
+    @Data
+    public static class Matchup {
+        private String batter;
+        private String pitcher;
+        private int balls;
+        private int strikes;
+        private int outs;
+    }
+}
@@ -0,0 +1,66 @@
+package com.mlb.core.entities;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Node-to-node endpoints of the clustering mode.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/cluster")
+public class ClusterController {
+
+    private final ClusterMembership membership;
+    private final GumboDataService gumboDataService;
+
+    @PostMapping("/heartbeat")
+    public ResponseEntity<String> heartbeat(@RequestParam String from,
+                                            @RequestHeader(name = ClusterMembership.SECRET_HEADER, required = false) String secret) {
+        if (!membership.onHeartbeat(from, secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(membership.getSelfUrl());
+    }
+
+    @GetMapping("/ring")
+    public ResponseEntity<Map<String, Object>> ring(@RequestParam(required = false) List<String> gameIds) {
+        ConsistentHashRing ring = membership.getRing();
+        return ResponseEntity.ok(Map.of(
+                "self", membership.getSelfUrl(),
+                "nodes", ring.getNodes(),
+                "owners", gameIds != null ? ring.ownersOf(gameIds) : Map.of()));
+    }
+
+    /**
+     * Box score of a game ingested on this node, for peers whose viewers ask for it. Never forwards further.
+     */
+    @GetMapping("/games/{gameId}/boxscore")
+    public ResponseEntity<BoxScore> boxScore(@PathVariable String gameId) {
+        return gumboDataService.getLocalBoxScore(gameId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Events of a game ingested on this node, for peers relaying it to their viewers. Never relays further.
+     */
+    @GetMapping(path = "/games/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<MLBGameEvent>> events(@PathVariable String gameId,
+                                                      @RequestParam(defaultValue = "false") boolean fromHead) {
+        return gumboDataService.getLocalFeedStream(gameId, fromHead)
+                .doOnNext(event -> PlayTraceEvents.frameEmitted(gameId, event, "peer"))
+                .map(event -> ServerSentEvent.<MLBGameEvent>builder()
+                        .data(event)
+                        .event("mlb-update")
+                        .build());
+    }
+}
@@ -0,0 +1,183 @@
+package com.mlb.core.entities;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cluster view of this node. Game ownership (polling, parsing, commentary) is assigned by consistent
+ * hashing of the gamePk over the live nodes. Nodes find each other through {@code mlb.cluster.peers}
+ * and through the heartbeats they send; a peer that misses heartbeats for {@code failure-timeout} is
+ * dropped and its games move to the remaining nodes. With clustering disabled this node owns every game.
+ * Without {@code mlb.cluster.secret} only the configured peers may join; with it, any node presenting the
+ * secret may.
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private final boolean enabled;
+    private final String selfUrl;
+    private final int virtualNodes;
+    private final Duration heartbeatInterval;
+    private final Duration failureTimeout;
+    private final String secret;
+    private final Set<String> seedPeers;
+    private final WebClient webClient;
+
+    // Peer URL -> time of the last successful heartbeat in either direction; peers that were not
+    // configured are forgotten once they time out
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Sinks.Many<ConsistentHashRing> ringChanges = Sinks.many().multicast().directBestEffort();
+    private volatile ConsistentHashRing ring;
+    private Disposable heartbeats;
+
+    @Autowired
+    public ClusterMembership(WebClient.Builder webClientBuilder,
+                             @Value("${mlb.cluster.enabled:false}") boolean enabled,
+                             @Value("${mlb.cluster.self-url:http://localhost:${server.port:8080}}") String selfUrl,
+                             @Value("${mlb.cluster.peers:}") List<String> peers,
+                             @Value("${mlb.cluster.virtual-nodes:128}") int virtualNodes,
+                             @Value("${mlb.cluster.heartbeat-interval:2s}") Duration heartbeatInterval,
+                             @Value("${mlb.cluster.failure-timeout:6s}") Duration failureTimeout,
+                             @Value("${mlb.cluster.secret:}") String secret) {
+        this.enabled = enabled;
+        this.selfUrl = normalize(selfUrl);
+        this.virtualNodes = virtualNodes;
+        this.heartbeatInterval = heartbeatInterval;
+        this.failureTimeout = failureTimeout;
+        this.secret = secret;
+        this.webClient = webClientBuilder.build();
+        this.seedPeers = peers.stream()
+                .filter(peer -> !peer.isBlank())
+                .map(ClusterMembership::normalize)
+                .filter(peer -> !peer.equals(this.selfUrl))
+                .collect(Collectors.toUnmodifiableSet());
+        seedPeers.forEach(peer -> lastSeen.put(peer, 0L));
+        this.ring = ConsistentHashRing.of(Set.of(selfUrl), virtualNodes);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        heartbeats = Flux.interval(Duration.ZERO, heartbeatInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(Set.copyOf(lastSeen.keySet()))
+                        .flatMap(this::ping)
+                        .then(Mono.fromRunnable(this::updateRing)))
+                .subscribe();
+        log.info("Cluster mode enabled as {} with seed peers {}", selfUrl, lastSeen.keySet());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeats != null) {
+            heartbeats.dispose();
+        }
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public String ownerOf(String gameId) {
+        return ring.nodeFor(gameId);
+    }
+
+    /**
+     * Emits the new ring each time nodes join or leave.
+     */
+    public Flux<ConsistentHashRing> ringChanges() {
+        return ringChanges.asFlux();
+    }
+
+    /**
+     * Heartbeat from a peer; unknown peers join the cluster this way when they present the secret.
+     *
+     * @return false when the peer is not allowed to join
+     */
+    public boolean onHeartbeat(String peerUrl, String presentedSecret) {
+        if (!enabled || peerUrl == null || peerUrl.isBlank()) {
+            return false;
+        }
+        String peer = normalize(peerUrl);
+        if (peer.equals(selfUrl) || !admits(peer, presentedSecret)) {
+            return false;
+        }
+        lastSeen.put(peer, System.currentTimeMillis());
+        return true;
+    }
+
+    private boolean admits(String peer, String presentedSecret) {
+        if (secret.isEmpty()) {
+            return seedPeers.contains(peer);
+        }
+        return presentedSecret != null && MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), presentedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mono<Void> ping(String peerUrl) {
+        return webClient.post()
+                .uri(peerUrl + "/cluster/heartbeat?from={self}", selfUrl)
+                .headers(headers -> {
+                    if (!secret.isEmpty()) {
+                        headers.set(SECRET_HEADER, secret);
+                    }
+                })
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(heartbeatInterval)
+                .doOnSuccess(response -> lastSeen.put(peerUrl, System.currentTimeMillis()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void updateRing() {
+        long now = System.currentTimeMillis();
+        Set<String> alive = new HashSet<>();
+        alive.add(selfUrl);
+        lastSeen.forEach((peer, seenAt) -> {
+            if (now - seenAt <= failureTimeout.toMillis()) {
+                alive.add(peer);
+            } else if (!seedPeers.contains(peer)) {
+                // A dead peer that joined by heartbeat is not pinged forever, it joins again the same way
+                lastSeen.remove(peer, seenAt);
+            }
+        });
+        if (!alive.equals(ring.getNodes())) {
+            log.info("Cluster membership changed: {} -> {}", ring.getNodes(), alive);
+            ring = ConsistentHashRing.of(alive, virtualNodes);
+            ringChanges.tryEmitNext(ring);
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
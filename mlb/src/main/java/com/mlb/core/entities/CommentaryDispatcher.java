@@ -0,0 +1,223 @@
+package com.mlb.core.entities;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single entry point for Gemini calls. Requests wait in a priority queue and are served by a fixed
+ * number of workers (the concurrency limit) that also respect a global request rate. Requests still
+ * queued past their deadline are dropped instead of producing late commentary.
+ */
+@Service
+@Slf4j
+public class CommentaryDispatcher {
+    private final PersonalMlbCommentator personalMlbCommentator;
+    private final MeterRegistry meterRegistry;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final long permitIntervalNanos;
+    private final boolean virtualThreads;
+
+    private final PriorityBlockingQueue<Task> queue = new PriorityBlockingQueue<>(64,
+            Comparator.comparing((Task task) -> task.priority).thenComparingLong(task -> task.sequence));
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private static class Task {
+        private final String chatId;
+        private final Supplier<String> call;
+        private final CommentaryPriority priority;
+        private final long sequence;
+        private final long enqueuedAt;
+        private final long deadline;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private Task(String chatId, Supplier<String> call, CommentaryPriority priority, long sequence, Duration maxAge) {
+            this.chatId = chatId;
+            this.call = call;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueuedAt = System.nanoTime();
+            this.deadline = enqueuedAt + maxAge.toNanos();
+        }
+    }
+
+    @Autowired
+    public CommentaryDispatcher(PersonalMlbCommentator personalMlbCommentator, MeterRegistry meterRegistry,
+                                @Value("${mlb.llm.max-concurrency:4}") int maxConcurrency,
+                                @Value("${mlb.llm.requests-per-second:5}") double requestsPerSecond,
+                                @Value("${mlb.llm.queue-capacity:1000}") int queueCapacity,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.personalMlbCommentator = personalMlbCommentator;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.permitIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.virtualThreads = virtualThreads;
+
+        Gauge.builder("mlb.llm.queue.depth", queue, PriorityBlockingQueue::size)
+                .description("Commentary requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("mlb.llm.in.flight", inFlight, AtomicInteger::get)
+                .description("Commentary requests currently calling the model")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startWorkers() {
+        // Workers spend nearly all their time blocked on Gemini or the rate limit, virtual threads don't hold
+        // a carrier while they wait. The concurrency limit stays the same either way.
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual().name("llm-dispatch-", 0)
+                : Thread.ofPlatform().daemon().name("llm-dispatch-", 0);
+        for (int i = 0; i < maxConcurrency; i++) {
+            workers.add(builder.start(this::runWorker));
+        }
+        log.info("Started {} {} LLM dispatch workers", maxConcurrency, virtualThreads ? "virtual" : "platform");
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        queue.forEach(task -> task.result.completeExceptionally(new CommentaryDroppedException("Shutting down")));
+        queue.clear();
+    }
+
+    public CompletableFuture<String> submit(String chatId, String message, CommentaryPriority priority) {
+        return submit(chatId, message, priority, priority.getDefaultMaxAge());
+    }
+
+    public CompletableFuture<String> submit(String chatId, String message, CommentaryPriority priority, Duration maxAge) {
+        return enqueue(new Task(chatId, () -> personalMlbCommentator.chat(chatId, message), priority,
+                sequence.incrementAndGet(), maxAge));
+    }
+
+    /**
+     * Queues a model call that doesn't go through the commentator and its chat memory, under the same
+     * concurrency and rate limits. {@code label} only names the call in logs.
+     */
+    public CompletableFuture<String> submitCall(String label, Supplier<String> call, CommentaryPriority priority) {
+        return enqueue(new Task(label, call, priority, sequence.incrementAndGet(), priority.getDefaultMaxAge()));
+    }
+
+    private CompletableFuture<String> enqueue(Task task) {
+        if (queue.size() >= queueCapacity) {
+            drop(task, "overflow");
+            return task.result;
+        }
+        queue.add(task);
+        return task.result;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void runWorker() {
+        while (running) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (task.result.isDone()) {
+                // Cancelled by the caller (e.g. a per-play timeout) while still queued
+                drop(task, "cancelled");
+                continue;
+            }
+
+            try {
+                if (!acquirePermit(task)) {
+                    continue;
+                }
+                Timer.builder("mlb.llm.queue.wait")
+                        .tag("priority", task.priority.name())
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+                call(task);
+            } catch (InterruptedException e) {
+                task.result.completeExceptionally(new CommentaryDroppedException("Shutting down"));
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for the next rate limit slot. Returns false if the task would expire before its slot, in which
+     * case no slot is taken: dropped tasks must not push the schedule further ahead of real time.
+     */
+    private boolean acquirePermit(Task task) throws InterruptedException {
+        while (true) {
+            long now = System.nanoTime();
+            long next = nextPermitNanos.get();
+            long slot = Math.max(now, next);
+            if (slot > task.deadline) {
+                drop(task, "deadline");
+                return false;
+            }
+            if (nextPermitNanos.compareAndSet(next, slot + permitIntervalNanos)) {
+                if (slot > now) {
+                    TimeUnit.NANOSECONDS.sleep(slot - now);
+                }
+                return true;
+            }
+        }
+    }
+
+    private void call(Task task) {
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            task.result.complete(task.call.get());
+        } catch (Exception e) {
+            log.error("Error calling commentary model for chat {}: ", task.chatId, e);
+            task.result.completeExceptionally(e);
+        } finally {
+            sample.stop(Timer.builder("mlb.llm.call")
+                    .tag("priority", task.priority.name())
+                    .register(meterRegistry));
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void drop(Task task, String reason) {
+        Counter.builder("mlb.llm.dropped")
+                .tag("priority", task.priority.name())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Dropped {} commentary request for chat {} ({})", task.priority, task.chatId, reason);
+        task.result.completeExceptionally(new CommentaryDroppedException("Commentary request dropped: " + reason));
+    }
+}
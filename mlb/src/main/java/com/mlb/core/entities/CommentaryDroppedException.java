@@ -0,0 +1,10 @@
+package com.mlb.core.entities;
+
+/**
+ * Completes a commentary request that was skipped because it went stale or the queue was full.
+ */
+public class CommentaryDroppedException extends RuntimeException {
+    public CommentaryDroppedException(String message) {
+        super(message);
+    }
+}
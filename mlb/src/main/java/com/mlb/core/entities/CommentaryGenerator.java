@@ -0,0 +1,79 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * Tiered commentary: plays the {@link CommentaryTierPolicy} marks as high leverage go to the model
+ * through the {@link CommentaryDispatcher}, everything else gets {@link TemplateCommentary}.
+ * The returned future never fails, dropped or failed model calls fall back to the template.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommentaryGenerator {
+    private final CommentaryDispatcher commentaryDispatcher;
+    private final CommentaryTierPolicy tierPolicy;
+    private final TemplateCommentary templateCommentary;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Commentary together with the tier it actually came from, {@code TEMPLATE} when a model call fell back.
+     */
+    public record TieredCommentary(String text, CommentaryTier tier) {
+    }
+
+    public CompletableFuture<String> generate(String chatId, MLBGameFeed.PlayEvent play, Map<String, Object> context,
+                                              CommentaryPriority priority, int awayScore, int homeScore) {
+        return generate(chatId, play, context, priority, awayScore, homeScore, (text, tier) -> text);
+    }
+
+    public CompletableFuture<TieredCommentary> generateTiered(String chatId, MLBGameFeed.PlayEvent play,
+                                                              Map<String, Object> context, CommentaryPriority priority,
+                                                              int awayScore, int homeScore) {
+        return generate(chatId, play, context, priority, awayScore, homeScore, TieredCommentary::new);
+    }
+
+    private <T> CompletableFuture<T> generate(String chatId, MLBGameFeed.PlayEvent play, Map<String, Object> context,
+                                              CommentaryPriority priority, int awayScore, int homeScore,
+                                              BiFunction<String, CommentaryTier, T> result) {
+        CommentaryTier tier = tierPolicy.tierOf(play, awayScore, homeScore);
+        meterRegistry.counter("mlb.commentary.generated", "tier", tier.name()).increment();
+
+        if (tier == CommentaryTier.TEMPLATE) {
+            return CompletableFuture.completedFuture(result.apply(templateCommentary.render(play), CommentaryTier.TEMPLATE));
+        }
+
+        try {
+            CompletableFuture<String> modelCall =
+                    commentaryDispatcher.submit(chatId, objectMapper.writeValueAsString(context), priority);
+            CompletableFuture<T> commentary = modelCall.handle((text, error) -> {
+                if (error == null) {
+                    return result.apply(text, CommentaryTier.MODEL);
+                }
+                log.warn("Falling back to template commentary: {}", error.getMessage());
+                return result.apply(templateCommentary.render(play), CommentaryTier.TEMPLATE);
+            });
+            // Let callers that give up (timeouts, disconnects) release the queued model request
+            commentary.whenComplete((text, error) -> {
+                if (error instanceof CancellationException) {
+                    modelCall.cancel(false);
+                }
+            });
+            return commentary;
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing commentary context: ", e);
+            return CompletableFuture.completedFuture(result.apply(templateCommentary.render(play), CommentaryTier.TEMPLATE));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mlb.core.entities;
+
+import java.time.Duration;
+
+/**
+ * Scheduling class of an LLM request, in the order {@link CommentaryDispatcher} serves them.
+ * The max age is how long commentary stays worth delivering before it is dropped.
+ */
+public enum CommentaryPriority {
+    LIVE_SCORING(Duration.ofSeconds(30)),
+    INTERACTIVE(Duration.ofSeconds(60)),
+    CATCH_UP(Duration.ofSeconds(20)),
+    LIVE_ROUTINE(Duration.ofSeconds(15)),
+    REPLAY(Duration.ofSeconds(90));
+
+    private final Duration defaultMaxAge;
+
+    CommentaryPriority(Duration defaultMaxAge) {
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    public Duration getDefaultMaxAge() {
+        return defaultMaxAge;
+    }
+}
@@ -0,0 +1,9 @@
+package com.mlb.core.entities;
+
+/**
+ * How commentary for a play is produced: by the model, or from a template over the structured play.
+ */
+public enum CommentaryTier {
+    MODEL,
+    TEMPLATE
+}
@@ -0,0 +1,65 @@
+package com.mlb.core.entities;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Decides which plays are worth a model call. Scoring plays and configured event types always are;
+ * other plays need a captivatingIndex above a threshold that depends on the game state, lower in
+ * late close games and higher in blowouts.
+ */
+@Component
+public class CommentaryTierPolicy {
+    private final int captivatingThreshold;
+    private final int lateCloseCaptivatingThreshold;
+    private final int blowoutCaptivatingThreshold;
+    private final int lateInning;
+    private final int closeMargin;
+    private final int blowoutMargin;
+    private final Set<String> modelEventTypes;
+
+    public CommentaryTierPolicy(@Value("${mlb.commentary.tier.captivating-threshold:40}") int captivatingThreshold,
+                                @Value("${mlb.commentary.tier.late-close-captivating-threshold:15}") int lateCloseCaptivatingThreshold,
+                                @Value("${mlb.commentary.tier.blowout-captivating-threshold:80}") int blowoutCaptivatingThreshold,
+                                @Value("${mlb.commentary.tier.late-inning:7}") int lateInning,
+                                @Value("${mlb.commentary.tier.close-margin:2}") int closeMargin,
+                                @Value("${mlb.commentary.tier.blowout-margin:6}") int blowoutMargin,
+                                @Value("${mlb.commentary.tier.model-event-types:home_run,triple}") Set<String> modelEventTypes) {
+        this.captivatingThreshold = captivatingThreshold;
+        this.lateCloseCaptivatingThreshold = lateCloseCaptivatingThreshold;
+        this.blowoutCaptivatingThreshold = blowoutCaptivatingThreshold;
+        this.lateInning = lateInning;
+        this.closeMargin = closeMargin;
+        this.blowoutMargin = blowoutMargin;
+        this.modelEventTypes = modelEventTypes;
+    }
+
+    public CommentaryTier tierOf(MLBGameFeed.PlayEvent play, int awayScore, int homeScore) {
+        MLBGameFeed.About about = play.getAbout();
+        MLBGameFeed.Result result = play.getResult();
+
+        if (about != null && about.isScoringPlay()) {
+            return CommentaryTier.MODEL;
+        }
+        if (result != null && result.getEventType() != null && modelEventTypes.contains(result.getEventType())) {
+            return CommentaryTier.MODEL;
+        }
+
+        int captivatingIndex = about != null ? about.getCaptivatingIndex() : 0;
+        return captivatingIndex >= thresholdFor(about, Math.abs(awayScore - homeScore))
+                ? CommentaryTier.MODEL
+                : CommentaryTier.TEMPLATE;
+    }
+
+    private int thresholdFor(MLBGameFeed.About about, int margin) {
+        if (margin >= blowoutMargin) {
+            return blowoutCaptivatingThreshold;
+        }
+        if (about != null && about.getInning() >= lateInning && margin <= closeMargin) {
+            return lateCloseCaptivatingThreshold;
+        }
+        return captivatingThreshold;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mlb.core.entities;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent hash ring over cluster nodes. Each node is placed at {@code virtualNodes} points,
+ * so when a node joins or leaves only the games hashed next to its points change owner.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> points;
+    private final Set<String> nodes;
+
+    private ConsistentHashRing(NavigableMap<Long, String> points, Set<String> nodes) {
+        this.points = points;
+        this.nodes = nodes;
+    }
+
+    public static ConsistentHashRing of(Collection<String> nodes, int virtualNodes) {
+        NavigableMap<Long, String> points = new TreeMap<>();
+        Set<String> sorted = new TreeSet<>(nodes);
+        for (String node : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.putIfAbsent(hash(node + "#" + i), node);
+            }
+        }
+        return new ConsistentHashRing(points, Set.copyOf(sorted));
+    }
+
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Node owning {@code key} (a gamePk), or null on an empty ring.
+     */
+    public String nodeFor(String key) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> owner = points.ceilingEntry(hash(key));
+        return owner != null ? owner.getValue() : points.firstEntry().getValue();
+    }
+
+    public Map<String, String> ownersOf(List<String> keys) {
+        Map<String, String> owners = new TreeMap<>();
+        keys.forEach(key -> owners.put(key, nodeFor(key)));
+        return owners;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xff);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class DateSchedule {
     private String date;
-    private List<Game> games;
+    private List<MLBResponse.GameData> games;
     private int totalGames;
     private int totalGamesInProgress;
 }
@@ -0,0 +1,350 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded file-backed store behind the repositories: an append-only JSON-lines log plus a periodic
+ * snapshot under {@code mlb.store.directory}. Writers only enqueue, so request and stream threads never
+ * wait on disk; a single writer thread group-commits everything queued with one write and one fsync,
+ * and folds the entries into the state it snapshots. On startup the snapshot is loaded and the log
+ * replayed, skipping entries the snapshot already covers; a torn entry at the tail is cut off so new
+ * entries are not appended behind it. Snapshots serialize the whole state, so repositories keep it bounded.
+ */
+@Slf4j
+@Component
+public class EmbeddedStore {
+    private static final String LOG_FILE = "store.log";
+    private static final String SNAPSHOT_FILE = "store.snapshot";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int maxBatch;
+    private final int snapshotEvery;
+
+    private final BlockingQueue<Entry> pending = new LinkedBlockingQueue<>();
+    // collection -> key -> value; only touched by the writer thread after recovery
+    private final Map<String, Map<String, JsonNode>> state = new HashMap<>();
+    private final ReentrantLock stateLock = new ReentrantLock();
+    // Sequence numbers are assigned in queue order, which replay relies on
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private long lastSeq;
+    private long nextSeq;
+    private int entriesSinceSnapshot;
+    private FileChannel logChannel;
+    private OutputStream logOut;
+    private Thread writer;
+    private Timer commitTimer;
+    private volatile boolean running = true;
+
+    private enum Op { PUT, ADD, DELETE, STOP }
+
+    private record Entry(long seq, Op op, String collection, String key, JsonNode value) {
+    }
+
+    @Autowired
+    public EmbeddedStore(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${mlb.store.directory:data}") String directory,
+                         @Value("${mlb.store.group-commit.max-batch:512}") int maxBatch,
+                         @Value("${mlb.store.snapshot-every:50000}") int snapshotEvery) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.directory = Path.of(directory);
+        this.maxBatch = Math.max(1, maxBatch);
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        long start = System.nanoTime();
+        int replayed = recover();
+        nextSeq = lastSeq + 1;
+        logChannel = FileChannel.open(directory.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        logOut = Channels.newOutputStream(logChannel);
+        log.info("Recovered {} collections and replayed {} log entries in {} ms", state.size(), replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        commitTimer = Timer.builder("mlb.store.commit")
+                .description("Group commit of queued writes (write + fsync)")
+                .register(meterRegistry);
+        Gauge.builder("mlb.store.pending", pending, BlockingQueue::size)
+                .description("Writes queued for the next group commit")
+                .register(meterRegistry);
+
+        writer = new Thread(this::runWriter, "store-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        enqueueLock.lock();
+        try {
+            running = false;
+            pending.add(new Entry(0, Op.STOP, null, null, null));
+        } finally {
+            enqueueLock.unlock();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Recovered contents of a collection. Meant for repositories to rebuild their in-memory state at startup.
+     */
+    public Map<String, JsonNode> load(String collection) {
+        stateLock.lock();
+        try {
+            return new HashMap<>(state.getOrDefault(collection, Map.of()));
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public void put(String collection, String key, Object value) {
+        enqueue(Op.PUT, collection, key, objectMapper.valueToTree(value));
+    }
+
+    /**
+     * Appends to the list stored under {@code key}.
+     */
+    public void add(String collection, String key, Object value) {
+        enqueue(Op.ADD, collection, key, objectMapper.valueToTree(value));
+    }
+
+    public void delete(String collection, String key) {
+        enqueue(Op.DELETE, collection, key, null);
+    }
+
+    // Values are converted on the caller's thread so later mutations of the object cannot leak into the log
+    private void enqueue(Op op, String collection, String key, JsonNode value) {
+        enqueueLock.lock();
+        try {
+            if (!running) {
+                log.warn("Store is closed, dropping {} of {}/{}", op, collection, key);
+                return;
+            }
+            pending.add(new Entry(nextSeq++, op, collection, key, value));
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(maxBatch);
+        while (true) {
+            try {
+                batch.add(pending.take());
+                pending.drainTo(batch, maxBatch - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            boolean stop = batch.removeIf(entry -> entry.op() == Op.STOP);
+            if (!batch.isEmpty()) {
+                commitTimer.record(() -> commit(batch));
+            }
+            batch.clear();
+            if (stop) {
+                List<Entry> rest = new ArrayList<>();
+                pending.drainTo(rest);
+                if (!rest.isEmpty()) {
+                    commit(rest);
+                }
+                closeLog();
+                return;
+            }
+        }
+    }
+
+    private void commit(List<Entry> batch) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (Entry entry : batch) {
+                lines.append(objectMapper.writeValueAsString(toJson(entry))).append('\n');
+            }
+            logOut.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            logChannel.force(false);
+        } catch (IOException e) {
+            // The entries stay applied in memory; they are lost on disk unless a later snapshot covers them
+            log.error("Error committing {} store entries: ", batch.size(), e);
+        }
+
+        stateLock.lock();
+        try {
+            batch.forEach(this::apply);
+        } finally {
+            stateLock.unlock();
+        }
+        entriesSinceSnapshot += batch.size();
+        if (entriesSinceSnapshot >= snapshotEvery) {
+            snapshot();
+        }
+    }
+
+    private void apply(Entry entry) {
+        Map<String, JsonNode> collection = state.computeIfAbsent(entry.collection(), c -> new HashMap<>());
+        switch (entry.op()) {
+            case PUT -> collection.put(entry.key(), entry.value());
+            case ADD -> {
+                JsonNode list = collection.get(entry.key());
+                if (!(list instanceof ArrayNode)) {
+                    list = objectMapper.createArrayNode();
+                    collection.put(entry.key(), list);
+                }
+                ((ArrayNode) list).add(entry.value());
+            }
+            case DELETE -> collection.remove(entry.key());
+            default -> { }
+        }
+        lastSeq = Math.max(lastSeq, entry.seq());
+    }
+
+    /**
+     * Writes the folded state next to the log and starts a new log. If we crash between the two steps the
+     * old log is replayed on top of the snapshot, and its entries are skipped by sequence number.
+     */
+    private void snapshot() {
+        try {
+            ObjectNode snapshot = objectMapper.createObjectNode();
+            snapshot.put("lastSeq", lastSeq);
+            stateLock.lock();
+            try {
+                snapshot.set("state", objectMapper.valueToTree(state));
+            } finally {
+                stateLock.unlock();
+            }
+            Path temp = Files.createTempFile(directory, "store", ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, directory.resolve(SNAPSHOT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            logChannel.truncate(0);
+            entriesSinceSnapshot = 0;
+            log.info("Wrote store snapshot at seq {}", lastSeq);
+        } catch (IOException e) {
+            log.error("Error writing store snapshot, keeping the log: ", e);
+        }
+    }
+
+    private int recover() throws IOException {
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotFile)) {
+            JsonNode snapshot = objectMapper.readTree(snapshotFile.toFile());
+            lastSeq = snapshot.path("lastSeq").asLong();
+            snapshot.path("state").fields().forEachRemaining(collection -> {
+                Map<String, JsonNode> values = new HashMap<>();
+                collection.getValue().fields().forEachRemaining(value -> values.put(value.getKey(), value.getValue()));
+                state.put(collection.getKey(), values);
+            });
+        }
+
+        Path logFile = directory.resolve(LOG_FILE);
+        if (!Files.exists(logFile)) {
+            return 0;
+        }
+        int replayed = 0;
+        long snapshotSeq = lastSeq;
+        // Bytes of the log up to the end of the last readable entry and its newline
+        long validLength = 0;
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry;
+                try {
+                    entry = fromJson(objectMapper.readTree(line));
+                } catch (IOException | RuntimeException e) {
+                    // A torn write at the tail of the log from a crash mid-commit
+                    log.warn("Stopping log replay at an unreadable entry after {} entries", replayed);
+                    break;
+                }
+                validLength += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (entry.seq() > snapshotSeq) {
+                    apply(entry);
+                    replayed++;
+                }
+            }
+        }
+        repairTail(logFile, validLength);
+        entriesSinceSnapshot = replayed;
+        return replayed;
+    }
+
+    /**
+     * Cuts the log after its last readable entry, or ends that entry's line when the crash hit just
+     * before its newline, so the next commit starts on a line of its own.
+     */
+    private void repairTail(Path logFile, long validLength) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (validLength < size) {
+                log.warn("Truncating {} bytes of torn store log entries", size - validLength);
+                channel.truncate(validLength);
+                channel.force(false);
+            } else if (validLength > size) {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}), size);
+                channel.force(false);
+            }
+        }
+    }
+
+    private ObjectNode toJson(Entry entry) {
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("s", entry.seq());
+        json.put("op", entry.op().name());
+        json.put("c", entry.collection());
+        json.put("k", entry.key());
+        if (entry.value() != null) {
+            json.set("v", entry.value());
+        }
+        return json;
+    }
+
+    private Entry fromJson(JsonNode json) {
+        return new Entry(json.get("s").asLong(), Op.valueOf(json.get("op").asText()),
+                json.get("c").asText(), json.get("k").asText(), json.get("v"));
+    }
+
+    private void closeLog() {
+        try {
+            logChannel.force(false);
+            logOut.close();
+        } catch (IOException e) {
+            log.error("Error closing store log: ", e);
+        }
+    }
+}
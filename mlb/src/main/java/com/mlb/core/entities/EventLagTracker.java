@@ -0,0 +1,275 @@
+package com.mlb.core.entities;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lag of every play from the moment it ended on the field to the moment a viewer got it, split by hop and
+ * recorded in HDR histograms per game:
+ * <ul>
+ *     <li>UPSTREAM: play {@code about.endTime} to the snapshot's {@code metaData.timeStamp}</li>
+ *     <li>FETCH: snapshot timestamp to our ingestion of the play</li>
+ *     <li>COMMENTARY: ingestion to the commentary being ready</li>
+ *     <li>DELIVERY: commentary ready to the SSE frame being written</li>
+ *     <li>END_TO_END: play end to the SSE frame being written, which is what the SLO is measured on</li>
+ * </ul>
+ * Each node only sees its own hops: the owner of a game records upstream, fetch and commentary, the node a
+ * viewer is connected to records delivery and end to end. Lags above {@code mlb.slo.max-lag} are replays of
+ * finished games and are not recorded.
+ */
+@Component
+public class EventLagTracker {
+
+    public enum Hop {UPSTREAM, FETCH, COMMENTARY, DELIVERY, END_TO_END}
+
+    /**
+     * Multi-window burn rate alerts: fire when both windows burn the error budget faster than the threshold.
+     */
+    public record BurnRateAlert(String severity, int longWindowMinutes, int shortWindowMinutes, double threshold) {
+    }
+
+    static final List<BurnRateAlert> ALERTS = List.of(
+            new BurnRateAlert("page", 60, 5, 14.4),
+            new BurnRateAlert("ticket", 360, 30, 6.0));
+    static final int[] WINDOWS_MINUTES = {5, 30, 60, 360};
+
+    private final Map<String, GameLag> games = new ConcurrentHashMap<>();
+    private final SloWindow overall = new SloWindow();
+    private final long targetMillis;
+    private final long maxLagMillis;
+    private final double objective;
+
+    @Autowired
+    public EventLagTracker(MeterRegistry meterRegistry,
+                           @Value("${mlb.slo.end-to-end-target:15s}") Duration target,
+                           @Value("${mlb.slo.objective:0.99}") double objective,
+                           @Value("${mlb.slo.max-lag:1h}") Duration maxLag) {
+        this.targetMillis = target.toMillis();
+        this.objective = objective;
+        this.maxLagMillis = maxLag.toMillis();
+        for (int window : WINDOWS_MINUTES) {
+            Gauge.builder("mlb.slo.burn.rate", this, tracker -> tracker.burnRate(tracker.overall, window))
+                    .tag("window", windowName(window))
+                    .description("Error budget burn rate of the end-to-end lag SLO")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Upstream and fetch lag of a freshly ingested play.
+     */
+    public void ingested(String gameId, MLBGameEvent event) {
+        if (event.getPlayEndedAt() > 0 && event.getPublishedAt() > 0) {
+            record(gameId, Hop.UPSTREAM, event.getPublishedAt() - event.getPlayEndedAt());
+        }
+        if (event.getPublishedAt() > 0) {
+            record(gameId, Hop.FETCH, event.getIngestedAt() - event.getPublishedAt());
+        }
+    }
+
+    public void commentaryReady(String gameId, MLBGameEvent event) {
+        record(gameId, Hop.COMMENTARY, event.getReadyAt() - event.getIngestedAt());
+    }
+
+    /**
+     * Delivery and end to end lag of a frame written to a viewer, the latter also counts against the SLO.
+     */
+    public void delivered(String gameId, MLBGameEvent event) {
+        long now = System.currentTimeMillis();
+        if (event.getReadyAt() > 0) {
+            record(gameId, Hop.DELIVERY, now - event.getReadyAt());
+        }
+        if (event.getPlayEndedAt() > 0) {
+            long lag = now - event.getPlayEndedAt();
+            if (record(gameId, Hop.END_TO_END, lag)) {
+                boolean good = lag <= targetMillis;
+                game(gameId).slo.record(now, good);
+                overall.record(now, good);
+            }
+        }
+    }
+
+    private boolean record(String gameId, Hop hop, long lagMillis) {
+        if (lagMillis > maxLagMillis) {
+            return false;
+        }
+        // Clocks of MLB and this host are not in sync to the millisecond
+        game(gameId).recorders.get(hop).recordValue(Math.max(0, lagMillis));
+        return true;
+    }
+
+    private GameLag game(String gameId) {
+        return games.computeIfAbsent(gameId, id -> new GameLag());
+    }
+
+    public void reset(String gameId) {
+        games.remove(gameId);
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("objective", objective);
+        report.put("endToEndTargetMillis", targetMillis);
+        report.put("burnRates", burnRates(overall));
+        report.put("alerts", alerts(overall));
+        Map<String, Object> byGame = new LinkedHashMap<>();
+        games.keySet().stream().sorted().forEach(gameId -> byGame.put(gameId, report(gameId)));
+        report.put("games", byGame);
+        return report;
+    }
+
+    public Map<String, Object> report(String gameId) {
+        GameLag game = games.get(gameId);
+        if (game == null) {
+            return null;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> hops = new LinkedHashMap<>();
+        game.lock.lock();
+        try {
+            for (Hop hop : Hop.values()) {
+                Histogram total = game.totals.get(hop);
+                total.add(game.recorders.get(hop).getIntervalHistogram());
+                hops.put(hop.name(), percentiles(total));
+            }
+        } finally {
+            game.lock.unlock();
+        }
+        report.put("lagMillis", hops);
+        report.put("burnRates", burnRates(game.slo));
+        report.put("alerts", alerts(game.slo));
+        return report;
+    }
+
+    private Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("p50", histogram.getValueAtPercentile(50));
+        values.put("p90", histogram.getValueAtPercentile(90));
+        values.put("p99", histogram.getValueAtPercentile(99));
+        values.put("p999", histogram.getValueAtPercentile(99.9));
+        values.put("max", histogram.getMaxValue());
+        return values;
+    }
+
+    private Map<String, Double> burnRates(SloWindow slo) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (int window : WINDOWS_MINUTES) {
+            rates.put(windowName(window), burnRate(slo, window));
+        }
+        return rates;
+    }
+
+    private List<Map<String, Object>> alerts(SloWindow slo) {
+        List<Map<String, Object>> firing = new ArrayList<>();
+        for (BurnRateAlert alert : ALERTS) {
+            double longBurn = burnRate(slo, alert.longWindowMinutes());
+            double shortBurn = burnRate(slo, alert.shortWindowMinutes());
+            if (longBurn >= alert.threshold() && shortBurn >= alert.threshold()) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("severity", alert.severity());
+                values.put("threshold", alert.threshold());
+                values.put(windowName(alert.longWindowMinutes()), longBurn);
+                values.put(windowName(alert.shortWindowMinutes()), shortBurn);
+                firing.add(values);
+            }
+        }
+        return firing;
+    }
+
+    /**
+     * Ratio of the late frame rate in the window to the rate the objective allows, 1.0 spends the budget exactly.
+     */
+    private double burnRate(SloWindow slo, int windowMinutes) {
+        long[] counts = slo.counts(System.currentTimeMillis(), windowMinutes);
+        if (counts[0] == 0) {
+            return 0.0;
+        }
+        return ((double) counts[1] / counts[0]) / (1.0 - objective);
+    }
+
+    private static String windowName(int minutes) {
+        return minutes % 60 == 0 ? minutes / 60 + "h" : minutes + "m";
+    }
+
+    /**
+     * Histograms of one game. Recorders take values lock-free from the stream threads, reports fold their
+     * interval histograms into the running totals under the lock.
+     */
+    private static class GameLag {
+        private final Map<Hop, Recorder> recorders = new EnumMap<>(Hop.class);
+        private final Map<Hop, Histogram> totals = new EnumMap<>(Hop.class);
+        private final SloWindow slo = new SloWindow();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private GameLag() {
+            for (Hop hop : Hop.values()) {
+                recorders.put(hop, new Recorder(3));
+                totals.put(hop, new Histogram(3));
+            }
+        }
+    }
+
+    /**
+     * Good/late frame counts in one-minute buckets covering the longest alert window.
+     */
+    private static class SloWindow {
+        private static final int SLOTS = 360;
+
+        private final AtomicLongArray minutes = new AtomicLongArray(SLOTS);
+        private final AtomicLongArray total = new AtomicLongArray(SLOTS);
+        private final AtomicLongArray late = new AtomicLongArray(SLOTS);
+        private final ReentrantLock rollover = new ReentrantLock();
+
+        private void record(long nowMillis, boolean good) {
+            long minute = nowMillis / 60_000;
+            int slot = (int) (minute % SLOTS);
+            if (minutes.get(slot) != minute) {
+                rollover.lock();
+                try {
+                    if (minutes.get(slot) != minute) {
+                        total.set(slot, 0);
+                        late.set(slot, 0);
+                        minutes.set(slot, minute);
+                    }
+                } finally {
+                    rollover.unlock();
+                }
+            }
+            total.incrementAndGet(slot);
+            if (!good) {
+                late.incrementAndGet(slot);
+            }
+        }
+
+        /**
+         * Total and late frames of the last {@code windowMinutes}, including the current minute.
+         */
+        private long[] counts(long nowMillis, int windowMinutes) {
+            long minute = nowMillis / 60_000;
+            long[] counts = new long[2];
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (minute - minutes.get(slot) < windowMinutes) {
+                    counts[0] += total.get(slot);
+                    counts[1] += late.get(slot);
+                }
+            }
+            return counts;
+        }
+    }
+}
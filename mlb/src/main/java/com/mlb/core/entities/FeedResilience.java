@@ -0,0 +1,278 @@
+package com.mlb.core.entities;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Resilient statsapi calls, per endpoint: a hedged second request once the first has taken longer than the
+ * endpoint's recent p95, retries of transient failures with jittered backoff, and a circuit breaker that
+ * stops calling after {@code failure-threshold} consecutive failures. While the circuit is open, and when
+ * a call fails for good, the last good document for the same key is served instead of an error. Only
+ * documents that are asked for again (latest feeds, timecodes, schedules) are kept, within a size budget.
+ */
+@Slf4j
+@Component
+public class FeedResilience {
+    private final MeterRegistry meterRegistry;
+    private final Duration attemptTimeout;
+    private final int retries;
+    private final Duration retryBackoff;
+    private final Duration hedgeMinDelay;
+    private final Duration hedgeMaxDelay;
+    private final double hedgeBudget;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int maxSnapshots;
+    private final long maxSnapshotChars;
+
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+    // Last good document per key, least recently used first
+    private final LinkedHashMap<String, String> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private long snapshotChars;
+
+    @Autowired
+    public FeedResilience(MeterRegistry meterRegistry,
+                          @Value("${mlb.feed.resilience.attempt-timeout:10s}") Duration attemptTimeout,
+                          @Value("${mlb.feed.resilience.retries:2}") int retries,
+                          @Value("${mlb.feed.resilience.retry-backoff:200ms}") Duration retryBackoff,
+                          @Value("${mlb.feed.resilience.hedge-min-delay:50ms}") Duration hedgeMinDelay,
+                          @Value("${mlb.feed.resilience.hedge-max-delay:2s}") Duration hedgeMaxDelay,
+                          @Value("${mlb.feed.resilience.hedge-budget:0.1}") double hedgeBudget,
+                          @Value("${mlb.feed.resilience.failure-threshold:5}") int failureThreshold,
+                          @Value("${mlb.feed.resilience.open-duration:30s}") Duration openDuration,
+                          @Value("${mlb.feed.resilience.snapshots:32}") int maxSnapshots,
+                          @Value("${mlb.feed.resilience.snapshot-size:64MB}") DataSize maxSnapshotSize) {
+        this.meterRegistry = meterRegistry;
+        this.attemptTimeout = attemptTimeout;
+        this.retries = retries;
+        this.retryBackoff = retryBackoff;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeMaxDelay = hedgeMaxDelay;
+        this.hedgeBudget = hedgeBudget;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.maxSnapshots = maxSnapshots;
+        // JSON is ASCII almost throughout, so a char stands for a byte
+        this.maxSnapshotChars = maxSnapshotSize.toBytes();
+    }
+
+    /**
+     * Calls {@code request} (subscribed once per attempt) for {@code endpoint}, remembering good responses
+     * under {@code snapshotKey}. A null key is for documents nobody asks for twice: no fallback is kept.
+     */
+    public Mono<String> fetch(String endpoint, String snapshotKey, Supplier<Mono<String>> request) {
+        EndpointState state = endpoints.computeIfAbsent(endpoint, this::register);
+        return Mono.defer(() -> {
+            if (!state.allowRequest()) {
+                return lastGood(state, snapshotKey, new IllegalStateException("Circuit open for " + endpoint));
+            }
+            return hedged(state, request)
+                    .retryWhen(Retry.backoff(retries, retryBackoff)
+                            .jitter(0.5)
+                            .filter(FeedResilience::isTransient)
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .doOnNext(json -> {
+                        state.onSuccess();
+                        remember(snapshotKey, json);
+                    })
+                    .onErrorResume(error -> {
+                        state.onFailure();
+                        return lastGood(state, snapshotKey, error);
+                    });
+        });
+    }
+
+    private Mono<String> hedged(EndpointState state, Supplier<Mono<String>> request) {
+        state.requests.incrementAndGet();
+        Mono<String> primary = timed(state, request);
+        if (state.hedges.get() >= hedgeBudget * state.requests.get()) {
+            return primary;
+        }
+        // Only hedge while the primary is still in flight, a primary that already failed is retried instead
+        Sinks.Empty<Void> primaryDone = Sinks.empty();
+        Flux<String> hedge = Mono.delay(state.hedgeDelay()).flux()
+                .takeUntilOther(primaryDone.asMono())
+                .concatMap(tick -> {
+                    state.hedges.incrementAndGet();
+                    meterRegistry.counter("mlb.feed.hedges", "endpoint", state.name).increment();
+                    return timed(state, request);
+                });
+        // The first value wins and cancels the other request
+        return Flux.mergeDelayError(1, primary.doOnTerminate(primaryDone::tryEmitEmpty), hedge).next();
+    }
+
+    private Mono<String> timed(EndpointState state, Supplier<Mono<String>> request) {
+        return Mono.defer(request)
+                .timeout(attemptTimeout)
+                .elapsed()
+                .doOnNext(timed -> state.latencies.record(timed.getT1()))
+                .map(timed -> timed.getT2());
+    }
+
+    private Mono<String> lastGood(EndpointState state, String snapshotKey, Throwable error) {
+        if (snapshotKey == null) {
+            return Mono.error(error);
+        }
+        String snapshot;
+        snapshotLock.lock();
+        try {
+            snapshot = snapshots.get(snapshotKey);
+        } finally {
+            snapshotLock.unlock();
+        }
+        if (snapshot == null) {
+            return Mono.error(error);
+        }
+        log.debug("Serving last good {} for {}: {}", state.name, snapshotKey, error.toString());
+        meterRegistry.counter("mlb.feed.stale", "endpoint", state.name).increment();
+        return Mono.just(snapshot);
+    }
+
+    private void remember(String snapshotKey, String json) {
+        if (snapshotKey == null || json.length() > maxSnapshotChars) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            String replaced = snapshots.put(snapshotKey, json);
+            snapshotChars += json.length() - (replaced != null ? replaced.length() : 0);
+            while (snapshots.size() > maxSnapshots || snapshotChars > maxSnapshotChars) {
+                Map.Entry<String, String> eldest = snapshots.entrySet().iterator().next();
+                snapshotChars -= eldest.getValue().length();
+                snapshots.remove(eldest.getKey());
+            }
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        if (error instanceof WebClientRequestException || error instanceof TimeoutException) {
+            return true;
+        }
+        // Both the primary and the hedge failed
+        if (Exceptions.isMultiple(error)) {
+            return Exceptions.unwrapMultiple(error).stream().anyMatch(FeedResilience::isTransient);
+        }
+        return Arrays.stream(error.getSuppressed()).anyMatch(FeedResilience::isTransient);
+    }
+
+    private EndpointState register(String endpoint) {
+        EndpointState state = new EndpointState(endpoint);
+        Gauge.builder("mlb.feed.circuit.open", state, s -> s.openedAt.get() != 0 ? 1 : 0)
+                .tag("endpoint", endpoint)
+                .description("Whether the circuit breaker of a statsapi endpoint is open")
+                .register(meterRegistry);
+        Gauge.builder("mlb.feed.hedge.delay", state, s -> s.hedgeDelay().toMillis())
+                .tag("endpoint", endpoint)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return state;
+    }
+
+    /**
+     * Breaker, hedging budget and latency window of one endpoint. The breaker is closed while
+     * {@code openedAt} is 0; once {@code open-duration} has passed a single trial call is let through.
+     */
+    private class EndpointState {
+        private final String name;
+        private final LatencyWindow latencies = new LatencyWindow();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong hedges = new AtomicLong();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong openedAt = new AtomicLong();
+
+        private EndpointState(String name) {
+            this.name = name;
+        }
+
+        private boolean allowRequest() {
+            long opened = openedAt.get();
+            if (opened == 0) {
+                return true;
+            }
+            long now = System.nanoTime();
+            // Half-open: whoever moves openedAt forward makes the trial call
+            return now - opened >= openDuration.toNanos() && openedAt.compareAndSet(opened, now);
+        }
+
+        private void onSuccess() {
+            consecutiveFailures.set(0);
+            if (openedAt.getAndSet(0) != 0) {
+                log.info("Circuit for statsapi {} closed", name);
+            }
+        }
+
+        private void onFailure() {
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold && openedAt.get() == 0) {
+                openedAt.set(System.nanoTime());
+                log.warn("Circuit for statsapi {} opened after {} failures", name, consecutiveFailures.get());
+            }
+        }
+
+        private Duration hedgeDelay() {
+            long p95 = latencies.p95;
+            if (p95 < 0) {
+                return hedgeMaxDelay;
+            }
+            return Duration.ofMillis(Math.max(hedgeMinDelay.toMillis(), Math.min(hedgeMaxDelay.toMillis(), p95)));
+        }
+    }
+
+    /**
+     * Latencies of the last successful attempts, p95 recomputed every few samples.
+     */
+    private static class LatencyWindow {
+        private static final int SIZE = 256;
+        private static final int MIN_SAMPLES = 20;
+
+        private final long[] samples = new long[SIZE];
+        private final ReentrantLock lock = new ReentrantLock();
+        private int next;
+        private int count;
+        private volatile long p95 = -1;
+
+        private void record(long millis) {
+            lock.lock();
+            try {
+                samples[next] = millis;
+                next = (next + 1) % SIZE;
+                count = Math.min(count + 1, SIZE);
+                if (count >= MIN_SAMPLES && next % 16 == 0) {
+                    long[] sorted = Arrays.copyOf(samples, count);
+                    Arrays.sort(sorted);
+                    p95 = sorted[(int) Math.ceil(0.95 * count) - 1];
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
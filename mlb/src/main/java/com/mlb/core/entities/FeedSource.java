@@ -0,0 +1,39 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Where GUMBO data comes from. Selected with {@code mlb.feed.source}: {@code http} (statsapi, default),
+ * {@code file} (local recordings and the bundled sample game) or {@code recording} (statsapi, with every
+ * response written to {@code mlb.feed.directory} for later {@code file} playback).
+ */
+public interface FeedSource {
+
+    Mono<List<String>> getTimestamps(String gameId);
+
+    /**
+     * Feed of a game at a timecode, or the latest feed when {@code timecode} is null.
+     */
+    Mono<MLBGameFeed> getFeed(String gameId, String timecode);
+
+    /**
+     * Raw final feed of a finished game for the archive, kept apart from live traffic where the source can.
+     * Bulk callers parse it with {@link #parseFeed} on their own workers.
+     */
+    Mono<String> getArchivedFeedDocument(String gameId);
+
+    MLBGameFeed parseFeed(String json);
+
+    Mono<MLBResponse> getSchedule(String startDate, String endDate);
+
+    Mono<SeasonSchedule> getSeasonSchedule(int season);
+
+    /**
+     * People with their season hitting and pitching stats ({@code people} array), for up to a few hundred ids per call.
+     */
+    Mono<JsonNode> getPeopleWithSeasonStats(Collection<Integer> personIds, int season);
+}
@@ -0,0 +1,153 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link GameRepository} served from memory and made durable through the {@link EmbeddedStore}. Events of
+ * a game are dropped, from memory and from the store, once none was appended for {@code mlb.store.events.retention}
+ * (counted from startup for recovered games), so neither the heap nor the store snapshots grow with every game
+ * ever streamed.
+ */
+@Slf4j
+@Repository
+public class FileGameRepository implements GameRepository {
+    private static final String GAMES = "games";
+    private static final String SCHEDULES = "schedules";
+    private static final String PREDICTIONS = "predictions";
+    private static final String EVENTS = "events";
+    private static final long SWEEP_INTERVAL_MILLIS = 60_000;
+
+    private final EmbeddedStore store;
+    private final long eventRetentionMillis;
+
+    private final Map<Long, Game> games = new ConcurrentHashMap<>();
+    private final Map<String, MLBResponse> schedules = new ConcurrentHashMap<>();
+    private final Map<String, UserPrediction> predictions = new ConcurrentHashMap<>();
+    private final Map<String, List<MLBGameEvent>> events = new ConcurrentHashMap<>();
+    // Game id -> time of its last appended event
+    private final Map<String, Long> lastEventAt = new ConcurrentHashMap<>();
+    private volatile long nextSweepAt;
+
+    public FileGameRepository(EmbeddedStore store, ObjectMapper objectMapper,
+                              @Value("${mlb.store.events.retention:3d}") Duration eventRetention) {
+        this.store = store;
+        this.eventRetentionMillis = eventRetention.toMillis();
+        recover(objectMapper);
+        long now = System.currentTimeMillis();
+        events.keySet().forEach(gameId -> lastEventAt.put(gameId, now));
+        nextSweepAt = now + SWEEP_INTERVAL_MILLIS;
+    }
+
+    private void recover(ObjectMapper mapper) {
+        // Stored documents may predate model changes
+        ObjectMapper objectMapper = mapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        try {
+            store.load(GAMES).forEach((key, json) ->
+                    games.put(Long.valueOf(key), convert(objectMapper, json, Game.class)));
+            store.load(SCHEDULES).forEach((key, json) ->
+                    schedules.put(key, convert(objectMapper, json, MLBResponse.class)));
+            store.load(PREDICTIONS).forEach((key, json) ->
+                    predictions.put(key, convert(objectMapper, json, UserPrediction.class)));
+            store.load(EVENTS).forEach((key, json) -> {
+                List<MLBGameEvent> gameEvents = new CopyOnWriteArrayList<>();
+                json.forEach(event -> gameEvents.add(convert(objectMapper, event, MLBGameEvent.class)));
+                events.put(key, gameEvents);
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Error recovering stored games, starting from the valid part: ", e);
+        }
+        log.info("Recovered {} games, {} predictions and events of {} games",
+                games.size(), predictions.size(), events.size());
+    }
+
+    private static <T> T convert(ObjectMapper objectMapper, JsonNode json, Class<T> type) {
+        return objectMapper.convertValue(json, type);
+    }
+
+    @Override
+    public void saveGame(Game game) {
+        games.put(game.getMlbGameId(), game);
+        store.put(GAMES, String.valueOf(game.getMlbGameId()), game);
+    }
+
+    @Override
+    public Optional<Game> findByMlbGameId(long mlbGameId) {
+        return Optional.ofNullable(games.get(mlbGameId));
+    }
+
+    @Override
+    public List<Game> findByGameDate(LocalDate gameDate) {
+        List<Game> result = new ArrayList<>();
+        games.values().forEach(game -> {
+            if (gameDate.equals(game.getGameDate())) {
+                result.add(game);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void saveSchedule(String startDate, String endDate, MLBResponse schedule) {
+        schedules.put(startDate + "_" + endDate, schedule);
+        store.put(SCHEDULES, startDate + "_" + endDate, schedule);
+    }
+
+    @Override
+    public Optional<MLBResponse> findSchedule(String startDate, String endDate) {
+        return Optional.ofNullable(schedules.get(startDate + "_" + endDate));
+    }
+
+    @Override
+    public void savePrediction(String userId, String gameId, UserPrediction prediction) {
+        String key = userId + "-" + gameId;
+        predictions.put(key, prediction);
+        store.put(PREDICTIONS, key, prediction);
+    }
+
+    @Override
+    public Map<String, UserPrediction> findAllPredictions() {
+        return Collections.unmodifiableMap(predictions);
+    }
+
+    @Override
+    public void appendEvent(String gameId, MLBGameEvent event) {
+        long now = System.currentTimeMillis();
+        events.computeIfAbsent(gameId, id -> new CopyOnWriteArrayList<>()).add(event);
+        lastEventAt.put(gameId, now);
+        store.add(EVENTS, gameId, event);
+        if (now >= nextSweepAt) {
+            nextSweepAt = now + SWEEP_INTERVAL_MILLIS;
+            expireEvents(now);
+        }
+    }
+
+    private void expireEvents(long now) {
+        lastEventAt.forEach((gameId, at) -> {
+            if (now - at > eventRetentionMillis && lastEventAt.remove(gameId, at)) {
+                events.remove(gameId);
+                store.delete(EVENTS, gameId);
+                log.debug("Dropped stored events of game {}, idle since {}", gameId, at);
+            }
+        });
+    }
+
+    @Override
+    public List<MLBGameEvent> findEvents(String gameId) {
+        return Collections.unmodifiableList(events.getOrDefault(gameId, List.of()));
+    }
+}
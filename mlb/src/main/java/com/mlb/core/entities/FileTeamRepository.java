@@ -0,0 +1,43 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TeamRepository} served from memory and made durable through the {@link EmbeddedStore}.
+ */
+@Repository
+public class FileTeamRepository implements TeamRepository {
+    private static final String TEAMS = "teams";
+
+    private final EmbeddedStore store;
+    private final Map<Integer, Team> teams = new ConcurrentHashMap<>();
+
+    public FileTeamRepository(EmbeddedStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        store.load(TEAMS).forEach((key, json) ->
+                teams.put(Integer.valueOf(key), objectMapper.convertValue(json, Team.class)));
+    }
+
+    @Override
+    public void save(Team team) {
+        teams.put(team.getId(), team);
+        store.put(TEAMS, String.valueOf(team.getId()), team);
+    }
+
+    @Override
+    public Optional<Team> findById(int id) {
+        return Optional.ofNullable(teams.get(id));
+    }
+
+    @Override
+    public List<Team> findAll() {
+        return new ArrayList<>(teams.values());
+    }
+}
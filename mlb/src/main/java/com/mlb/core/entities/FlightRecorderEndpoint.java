@@ -0,0 +1,114 @@
+package com.mlb.core.entities;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code /actuator/flightrecorder}: starts (POST) and stops (DELETE) a JFR recording with the play pipeline
+ * events enabled, and shows its state (GET). Stopping dumps the recording to {@code mlb.jfr.directory}.
+ * Recordings also capture virtual threads pinned to their carrier (jdk.VirtualThreadPinned) with stack traces.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")
+            .withZone(ZoneOffset.UTC);
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(5);
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private Path lastFile;
+
+    public FlightRecorderEndpoint(@Value("${mlb.jfr.directory:jfr}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            boolean running = recording != null && recording.getState() == RecordingState.RUNNING;
+            status.put("recording", running);
+            if (running) {
+                status.put("startedAt", recording.getStartTime().toString());
+                status.put("sizeBytes", recording.getSize());
+            }
+            status.put("lastFile", lastFile != null ? lastFile.toAbsolutePath().toString() : null);
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param settings JFR configuration to combine with the pipeline events, "default" (~1% overhead) or "profile"
+     * @param maxAge   how much history to keep in the recording, e.g. "PT30M"; unbounded if omitted
+     */
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String settings, @Nullable String maxAge) throws IOException, ParseException {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                return status();
+            }
+            Configuration configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+            recording = new Recording(configuration);
+            recording.setName("mlb-play-pipeline");
+            recording.setToDisk(true);
+            if (maxAge != null) {
+                recording.setMaxAge(Duration.parse(maxAge));
+            }
+            PlayTraceEvents.ALL.forEach(event -> recording.enable(event).withoutThreshold());
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(PINNED_THRESHOLD);
+            recording.start();
+            log.info("Started flight recording with {} settings", configuration.getName());
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() throws IOException {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return status();
+            }
+            Files.createDirectories(directory);
+            Path file = directory.resolve("mlb-" + FILE_TIME.format(Instant.now()) + ".jfr");
+            recording.dump(file);
+            recording.close();
+            recording = null;
+            lastFile = file;
+            log.info("Flight recording written to {}", file.toAbsolutePath());
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -8,12 +8,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 @RestController
@@ -22,54 +23,110 @@ import java.util.concurrent.ConcurrentHashMap;
 @CrossOrigin("http://localhost:3000")
 public class GameController {
 
-    private final PersonalMlbCommentator agent;
+    private final CommentaryDispatcher commentaryDispatcher;
 
 
     private final MLBGameService mlbGameService;
     private final GumboDataService dataService;
+    private final GameTimelineService timelineService;
+    private final GameRepository gameRepository;
+    private final EventLagTracker lagTracker;
+    private final LiveViewerRegistry viewers;
 
 
     @GetMapping(path = "/game/{gameId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamGame(
+    public Flux<ServerSentEvent<String>> streamGame(
             @PathVariable String gameId,
-            @RequestParam String userId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        mlbGameService.streamGame(gameId, userId, emitter);
-        return emitter;
+            @RequestParam String userId,
+            @RequestParam(defaultValue = "false") boolean delta,
+            @RequestParam(defaultValue = "false") boolean catchUp) {
+        return mlbGameService.streamGame(gameId, userId, delta, catchUp);
+    }
+
+    @PostMapping("/game/{gameId}/seek")
+    public ResponseEntity<Void> seek(
+            @PathVariable String gameId,
+            @RequestParam String userId,
+            @RequestParam int atBatIndex) {
+        return mlbGameService.seek(userId, gameId, atBatIndex)
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.notFound().build();
     }
 
     @PostMapping("/game/{gameId}/predict")
-    public ResponseEntity<Void> submitPrediction(
+    public Mono<ResponseEntity<Void>> submitPrediction(
             @PathVariable String gameId,
             @RequestParam String userId,
             @RequestBody Map<String, String> request) {
 
         String prediction = request.get("prediction");
         if (prediction == null || prediction.trim().isEmpty()) {
-            return ResponseEntity.badRequest().build();
+            return Mono.just(ResponseEntity.badRequest().build());
         }
 
-        mlbGameService.saveUserPrediction(userId, gameId, prediction.trim());
-        return ResponseEntity.ok().build();
+        return mlbGameService.saveUserPrediction(userId, gameId, prediction.trim())
+                .then(Mono.just(ResponseEntity.ok().build()));
     }
 
 
     @PostMapping("/chat/{userChatId}")
     public ResponseEntity<String> chat(@PathVariable String userChatId,@RequestBody JsonNode jsonBody) {
-        String chat = agent.chat(userChatId,jsonBody.toString());
-        return new ResponseEntity<>(chat, HttpStatus.OK);
+        try {
+            String chat = commentaryDispatcher.submit(userChatId, jsonBody.toString(), CommentaryPriority.INTERACTIVE).join();
+            return new ResponseEntity<>(chat, HttpStatus.OK);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommentaryDroppedException) {
+                return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            throw e;
+        }
     }
 
     @GetMapping("/{gameId}/live/status")
-    public ResponseEntity<MLBGameService.LiveGameStatus> getLiveGameStatus(@PathVariable String gameId) {
-        return ResponseEntity.ok(mlbGameService.getLiveGameStatus(gameId));
+    public Mono<ResponseEntity<MLBGameService.LiveGameStatus>> getLiveGameStatus(@PathVariable String gameId) {
+        return mlbGameService.getLiveGameStatus(gameId)
+                .map(ResponseEntity::ok);
     }
 
-    private final GumboDataService gumboDataService;
+    @GetMapping("/{gameId}/events")
+    public ResponseEntity<List<MLBGameEvent>> getGameEvents(@PathVariable String gameId) {
+        return ResponseEntity.ok(gameRepository.findEvents(gameId));
+    }
+
+    @GetMapping("/{gameId}/boxscore")
+    public Mono<ResponseEntity<BoxScore>> getBoxScore(@PathVariable String gameId) {
+        return dataService.getBoxScore(gameId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{gameId}/state")
+    public Mono<ResponseEntity<GameStateSnapshot>> getGameStateAt(
+            @PathVariable String gameId,
+            @RequestParam String timecode) {
+        try {
+            TimecodeIndex.toEpochMillis(timecode);
+        } catch (DateTimeParseException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return timelineService.stateAt(gameId, timecode)
+                .map(ResponseEntity::ok);
+    }
 
     @GetMapping(path = "/live-feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<ServerSentEvent<MLBGameEvent>> getLiveFeed() {
-        return dataService.getLiveFeedStream()
+    public Flux<ServerSentEvent<MLBGameEvent>> getLiveFeed(@RequestParam(required = false) String gameId) {
+        String liveGameId = gameId != null ? gameId : dataService.getCurrentGameId();
+        return Flux.defer(() -> {
+                    LiveViewerRegistry.Viewer viewer = viewers.open(liveGameId);
+                    return dataService.getLiveFeedStream(liveGameId)
+                            .takeUntilOther(viewer.evicted())
+                            .doOnNext(event -> {
+                                PlayTraceEvents.frameEmitted(liveGameId, event, viewer.getId());
+                                lagTracker.delivered(liveGameId, event);
+                                viewer.frameWritten(event);
+                            })
+                            .doFinally(signal -> viewers.close(viewer));
+                })
                 .map(event -> ServerSentEvent.<MLBGameEvent>builder()
                         .data(event)
                         .event("mlb-update")
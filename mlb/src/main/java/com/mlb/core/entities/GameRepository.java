@@ -2,8 +2,34 @@ package com.mlb.core.entities;
 
 
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface GameRepository{
 
-}
\ No newline at end of file
+    void saveGame(Game game);
+
+    Optional<Game> findByMlbGameId(long mlbGameId);
+
+    List<Game> findByGameDate(LocalDate gameDate);
+
+    void saveSchedule(String startDate, String endDate, MLBResponse schedule);
+
+    Optional<MLBResponse> findSchedule(String startDate, String endDate);
+
+    /**
+     * Latest prediction per user and game.
+     */
+    void savePrediction(String userId, String gameId, UserPrediction prediction);
+
+    /**
+     * All stored predictions keyed by {@code userId + "-" + gameId}.
+     */
+    Map<String, UserPrediction> findAllPredictions();
+
+    void appendEvent(String gameId, MLBGameEvent event);
+
+    List<MLBGameEvent> findEvents(String gameId);
+}
@@ -0,0 +1,110 @@
+package com.mlb.core.entities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base/out/score state of one game, advanced once per completed plate appearance. Every update is a
+ * constant number of {@link WinExpectancyTables} array lookups. Not thread-safe: each stream or
+ * ingestion loop owns its own engine.
+ */
+public class GameStateEngine {
+
+    private final WinExpectancyTables tables;
+
+    // State at the start of the next plate appearance
+    private int inning = 1;
+    private boolean topInning = true;
+    private int outs;
+    private int bases;
+    private int awayScore;
+    private int homeScore;
+
+    private double leverageIndex = Double.NaN;
+    private double winProbabilityAdded = Double.NaN;
+
+    public GameStateEngine(WinExpectancyTables tables) {
+        this.tables = tables;
+    }
+
+    public void apply(MLBGameFeed.PlayEvent play) {
+        apply(PlayRecord.of(0, play));
+    }
+
+    public void apply(PlayRecord play) {
+        if (play.getInning() != inning || play.isTopInning() != topInning) {
+            inning = play.getInning();
+            topInning = play.isTopInning();
+            outs = 0;
+            bases = 0;
+        }
+        double before = homeWinProbability();
+        leverageIndex = tables.leverageIndex(inning, topInning, outs, bases, homeScore - awayScore);
+
+        awayScore = play.getAwayScore();
+        homeScore = play.getHomeScore();
+        if (play.getOuts() >= 3) {
+            outs = 0;
+            bases = 0;
+            if (!topInning) {
+                inning++;
+            }
+            topInning = !topInning;
+        } else {
+            outs = play.getOuts();
+            bases = play.getBases();
+        }
+        winProbabilityAdded = homeWinProbability() - before;
+    }
+
+    public double runExpectancy() {
+        return tables.runExpectancy(outs, bases);
+    }
+
+    public double homeWinProbability() {
+        return tables.homeWinProbability(inning, topInning, outs, bases, homeScore - awayScore);
+    }
+
+    /**
+     * Leverage of the state the last plate appearance started in.
+     */
+    public double leverageIndex() {
+        return leverageIndex;
+    }
+
+    /**
+     * Change in home win probability caused by the last plate appearance.
+     */
+    public double winProbabilityAdded() {
+        return winProbabilityAdded;
+    }
+
+    public void applyTo(MLBGameService.LiveGameStatus status) {
+        status.setRunExpectancy(rounded(runExpectancy()));
+        status.setHomeWinProbability(rounded(homeWinProbability()));
+        status.setLeverageIndex(rounded(leverageIndex));
+    }
+
+    /**
+     * Values for the commentary context; unknown values are left out rather than sent as NaN.
+     */
+    public Map<String, Object> toContext() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        putIfKnown(context, "runExpectancy", runExpectancy());
+        putIfKnown(context, "homeWinProbability", homeWinProbability());
+        putIfKnown(context, "winProbabilityAdded", winProbabilityAdded);
+        putIfKnown(context, "leverageIndex", leverageIndex);
+        return context;
+    }
+
+    private static void putIfKnown(Map<String, Object> context, String name, double value) {
+        Double known = rounded(value);
+        if (known != null) {
+            context.put(name, known);
+        }
+    }
+
+    private static Double rounded(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+/**
+ * Game state after a given number of completed plays, as reconstructed by {@link GameTimeline}.
+ */
+@Data
+public class GameStateSnapshot {
+    private String gameId;
+    private String timecode;
+    private int playsCompleted;
+    private int lastAtBatIndex = -1;
+    private int inning = 1;
+    private String halfInning = "top";
+    private int outs;
+    private int awayScore;
+    private int homeScore;
+    private int awayHits;
+    private int homeHits;
+    private String batter;
+    private String pitcher;
+    private String lastEvent;
+    private String lastDescription;
+
+    public GameStateSnapshot copy() {
+        GameStateSnapshot copy = new GameStateSnapshot();
+        copy.setGameId(gameId);
+        copy.setTimecode(timecode);
+        copy.setPlaysCompleted(playsCompleted);
+        copy.setLastAtBatIndex(lastAtBatIndex);
+        copy.setInning(inning);
+        copy.setHalfInning(halfInning);
+        copy.setOuts(outs);
+        copy.setAwayScore(awayScore);
+        copy.setHomeScore(homeScore);
+        copy.setAwayHits(awayHits);
+        copy.setHomeHits(homeHits);
+        copy.setBatter(batter);
+        copy.setPitcher(pitcher);
+        copy.setLastEvent(lastEvent);
+        copy.setLastDescription(lastDescription);
+        return copy;
+    }
+}
@@ -0,0 +1,141 @@
+package com.mlb.core.entities;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Completed plays of one game ordered by end time, with a keyframe snapshot every
+ * {@link #KEYFRAME_INTERVAL} plays. {@link #stateAt(long)} binary searches the play end times and
+ * applies at most {@code KEYFRAME_INTERVAL} plays on top of the nearest keyframe.
+ */
+public class GameTimeline {
+
+    static final int KEYFRAME_INTERVAL = 16;
+
+    private static final Set<String> HIT_EVENTS = Set.of("single", "double", "triple", "home_run");
+
+    private final String gameId;
+    private final long[] playEndEpochs;
+    private final MLBGameFeed.PlayEvent[] plays;
+    // keyframes[k] is the state before plays[k * KEYFRAME_INTERVAL] is applied
+    private final GameStateSnapshot[] keyframes;
+
+    private GameTimeline(String gameId, long[] playEndEpochs, MLBGameFeed.PlayEvent[] plays,
+                         GameStateSnapshot[] keyframes) {
+        this.gameId = gameId;
+        this.playEndEpochs = playEndEpochs;
+        this.plays = plays;
+        this.keyframes = keyframes;
+    }
+
+    public static GameTimeline of(String gameId, MLBGameFeed feed) {
+        List<MLBGameFeed.PlayEvent> completed = new ArrayList<>();
+        if (feed != null && feed.getLiveData() != null && feed.getLiveData().getPlays() != null
+                && feed.getLiveData().getPlays().getAllPlays() != null) {
+            for (MLBGameFeed.PlayEvent play : feed.getLiveData().getPlays().getAllPlays()) {
+                if (play.getAbout() != null && play.getAbout().isComplete() && playTime(play) != null) {
+                    completed.add(play);
+                }
+            }
+        }
+
+        int size = completed.size();
+        long[] epochs = new long[size];
+        MLBGameFeed.PlayEvent[] plays = completed.toArray(new MLBGameFeed.PlayEvent[0]);
+        GameStateSnapshot[] keyframes = new GameStateSnapshot[size / KEYFRAME_INTERVAL + 1];
+
+        GameStateSnapshot state = new GameStateSnapshot();
+        state.setGameId(gameId);
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (i % KEYFRAME_INTERVAL == 0) {
+                keyframes[i / KEYFRAME_INTERVAL] = state.copy();
+            }
+            // Corrections can leave end times slightly out of order, keep the array sorted
+            previous = Math.max(previous, Instant.parse(playTime(plays[i])).toEpochMilli());
+            epochs[i] = previous;
+            apply(state, plays[i]);
+        }
+        if (size % KEYFRAME_INTERVAL == 0) {
+            keyframes[size / KEYFRAME_INTERVAL] = state.copy();
+        }
+
+        return new GameTimeline(gameId, epochs, plays, keyframes);
+    }
+
+    public int size() {
+        return plays.length;
+    }
+
+    public long lastPlayEpochMillis() {
+        return plays.length == 0 ? Long.MIN_VALUE : playEndEpochs[plays.length - 1];
+    }
+
+    public GameStateSnapshot stateAt(long epochMillis) {
+        int pos = Arrays.binarySearch(playEndEpochs, epochMillis);
+        int played;
+        if (pos >= 0) {
+            // Equal end times are possible, include all of them
+            while (pos + 1 < playEndEpochs.length && playEndEpochs[pos + 1] == epochMillis) {
+                pos++;
+            }
+            played = pos + 1;
+        } else {
+            played = -(pos + 1);
+        }
+
+        int keyframe = played / KEYFRAME_INTERVAL;
+        GameStateSnapshot state = keyframes[keyframe].copy();
+        for (int i = keyframe * KEYFRAME_INTERVAL; i < played; i++) {
+            apply(state, plays[i]);
+        }
+        return state;
+    }
+
+    private static String playTime(MLBGameFeed.PlayEvent play) {
+        return play.getAbout().getEndTime() != null ? play.getAbout().getEndTime() : play.getAbout().getStartTime();
+    }
+
+    private static void apply(GameStateSnapshot state, MLBGameFeed.PlayEvent play) {
+        MLBGameFeed.About about = play.getAbout();
+        MLBGameFeed.Result result = play.getResult();
+        boolean top = "top".equalsIgnoreCase(about.getHalfInning());
+
+        state.setPlaysCompleted(state.getPlaysCompleted() + 1);
+        state.setLastAtBatIndex(about.getAtBatIndex());
+        state.setInning(about.getInning());
+        state.setHalfInning(about.getHalfInning());
+
+        if (play.getCount() != null) {
+            state.setOuts(play.getCount().getOuts());
+        }
+        if (result != null) {
+            if (result.getAwayScore() != null) {
+                state.setAwayScore(result.getAwayScore());
+            }
+            if (result.getHomeScore() != null) {
+                state.setHomeScore(result.getHomeScore());
+            }
+            if (result.getEventType() != null && HIT_EVENTS.contains(result.getEventType())) {
+                if (top) {
+                    state.setAwayHits(state.getAwayHits() + 1);
+                } else {
+                    state.setHomeHits(state.getHomeHits() + 1);
+                }
+            }
+            state.setLastEvent(result.getEvent());
+            state.setLastDescription(result.getDescription());
+        }
+        if (play.getMatchup() != null) {
+            if (play.getMatchup().getBatter() != null) {
+                state.setBatter(play.getMatchup().getBatter().getFullName());
+            }
+            if (play.getMatchup().getPitcher() != null) {
+                state.setPitcher(play.getMatchup().getPitcher().getFullName());
+            }
+        }
+    }
+}
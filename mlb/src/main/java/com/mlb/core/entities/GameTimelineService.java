@@ -0,0 +1,86 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link TimecodeIndex} and one {@link GameTimeline} per game so timecodes are parsed once
+ * and any moment of a game can be reconstructed without replaying the feed.
+ */
+@Service
+@Slf4j
+public class GameTimelineService {
+    private static final Duration TIMELINE_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final FeedSource feedSource;
+
+    private final Map<String, TimecodeIndex> timecodeIndexes = new ConcurrentHashMap<>();
+    private final Map<String, LoadedTimeline> timelines = new ConcurrentHashMap<>();
+    private final CacheStats timelineCache = new CacheStats();
+
+    private record LoadedTimeline(GameTimeline timeline, long loadedAt) {
+    }
+
+    @Autowired
+    public GameTimelineService(FeedSource feedSource) {
+        this.feedSource = feedSource;
+    }
+
+    public TimecodeIndex getTimecodes(String gameId) {
+        return timecodeIndexes.getOrDefault(gameId, TimecodeIndex.EMPTY);
+    }
+
+    /**
+     * Fetches the timecode list of a game and replaces the cached index with it.
+     */
+    public Mono<TimecodeIndex> refreshTimecodes(String gameId) {
+        return feedSource.getTimestamps(gameId)
+                .map(TimecodeIndex::of)
+                .doOnNext(index -> timecodeIndexes.put(gameId, index))
+                .doOnError(error -> log.error("Error fetching timestamps for game {}: ", gameId, error));
+    }
+
+    /**
+     * Reconstructs the state of a game as it was at {@code timecode}.
+     */
+    public Mono<GameStateSnapshot> stateAt(String gameId, String timecode) {
+        long target = TimecodeIndex.toEpochMillis(timecode);
+
+        Mono<TimecodeIndex> timecodes = getTimecodes(gameId).isEmpty()
+                ? refreshTimecodes(gameId).onErrorReturn(TimecodeIndex.EMPTY)
+                : Mono.just(getTimecodes(gameId));
+
+        return timecodes.zipWith(getTimeline(gameId, target), (index, timeline) -> {
+            GameStateSnapshot state = timeline.stateAt(target);
+            int floor = index.floorIndex(target);
+            // Report the published snapshot the state corresponds to when we know it
+            state.setTimecode(floor >= 0 ? index.timecode(floor) : timecode);
+            return state;
+        });
+    }
+
+    public CacheStats getTimelineCacheStats() {
+        return timelineCache;
+    }
+
+    private Mono<GameTimeline> getTimeline(String gameId, long target) {
+        LoadedTimeline loaded = timelines.get(gameId);
+        if (loaded != null && (target <= loaded.timeline().lastPlayEpochMillis()
+                || System.currentTimeMillis() - loaded.loadedAt() < TIMELINE_REFRESH_INTERVAL.toMillis())) {
+            timelineCache.hit();
+            return Mono.just(loaded.timeline());
+        }
+        timelineCache.miss();
+
+        return feedSource.getFeed(gameId, null)
+                .map(feed -> GameTimeline.of(gameId, feed))
+                .doOnNext(timeline -> timelines.put(gameId, new LoadedTimeline(timeline, System.currentTimeMillis())))
+                .doOnError(error -> log.error("Error building timeline for game {}: ", gameId, error));
+    }
+}
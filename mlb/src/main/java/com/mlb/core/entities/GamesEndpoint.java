@@ -0,0 +1,92 @@
+package com.mlb.core.entities;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * {@code /actuator/games}: live pipeline diagnostics of this node (GET), for every game with an ingestion
+ * session or live viewers, plus commentary queue and cache state. {@code POST /actuator/games/{gameId}} forces
+ * a repoll, {@code DELETE /actuator/games/{gameId}/{viewerId}} evicts a viewer. Only reads volatile state.
+ */
+@Component
+@Endpoint(id = "games")
+public class GamesEndpoint {
+    private static final int SLOWEST_VIEWERS = 5;
+
+    private final GumboDataService dataService;
+    private final LiveViewerRegistry viewers;
+    private final CommentaryDispatcher commentaryDispatcher;
+    private final GameTimelineService timelineService;
+    private final PlayerRegistry playerRegistry;
+    private final SharedCommentary sharedCommentary;
+    private final ClusterMembership cluster;
+
+    public GamesEndpoint(GumboDataService dataService, LiveViewerRegistry viewers,
+                         CommentaryDispatcher commentaryDispatcher, GameTimelineService timelineService,
+                         PlayerRegistry playerRegistry, SharedCommentary sharedCommentary,
+                         ClusterMembership cluster) {
+        this.dataService = dataService;
+        this.viewers = viewers;
+        this.commentaryDispatcher = commentaryDispatcher;
+        this.timelineService = timelineService;
+        this.playerRegistry = playerRegistry;
+        this.sharedCommentary = sharedCommentary;
+        this.cluster = cluster;
+    }
+
+    @ReadOperation
+    public Map<String, Object> games() {
+        TreeSet<String> gameIds = new TreeSet<>(dataService.getSessionGameIds());
+        gameIds.addAll(viewers.gameIds());
+        Map<String, Object> games = new LinkedHashMap<>();
+        gameIds.forEach(gameId -> games.put(gameId, describe(gameId, SLOWEST_VIEWERS)));
+
+        Map<String, Object> commentary = new LinkedHashMap<>();
+        commentary.put("queueDepth", commentaryDispatcher.getQueueDepth());
+        commentary.put("inFlight", commentaryDispatcher.getInFlight());
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("timelines", timelineService.getTimelineCacheStats().toMap());
+        caches.put("players", playerRegistry.getPlayerCacheStats().toMap());
+        caches.put("narratives", sharedCommentary.getCacheStats().toMap());
+
+        Map<String, Object> diagnostics = new LinkedHashMap<>();
+        diagnostics.put("node", cluster.getSelfUrl());
+        diagnostics.put("games", games);
+        diagnostics.put("commentary", commentary);
+        diagnostics.put("caches", caches);
+        return diagnostics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> game(@Selector String gameId) {
+        Map<String, Object> game = describe(gameId, Integer.MAX_VALUE);
+        return game.get("session") == null && (int) game.get("viewers") == 0 ? null : game;
+    }
+
+    @WriteOperation
+    public Map<String, Object> repoll(@Selector String gameId) {
+        return Map.of("gameId", gameId, "repolled", dataService.repoll(gameId));
+    }
+
+    @DeleteOperation
+    public Map<String, Object> evict(@Selector String gameId, @Selector String viewerId) {
+        return Map.of("viewerId", viewerId, "evicted", viewers.evict(gameId, viewerId));
+    }
+
+    private Map<String, Object> describe(String gameId, int slowest) {
+        Map<String, Object> game = new LinkedHashMap<>();
+        game.put("owner", cluster.ownerOf(gameId));
+        game.put("session", dataService.describeSession(gameId));
+        game.put("viewers", viewers.count(gameId));
+        game.put("slowestViewers", viewers.slowest(gameId, slowest));
+        return game;
+    }
+}
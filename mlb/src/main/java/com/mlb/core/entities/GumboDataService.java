@@ -1,6 +1,5 @@
 package com.mlb.core.entities;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,253 +7,599 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.RequestEntity;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
-import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @Slf4j
 public class GumboDataService {
-    private final WebClient webClient;
-    private static final String MLB_API_BASE_URL = "https://statsapi.mlb.com/api/v1.1";
-    private static final Duration POLL_INTERVAL = Duration.ofMinutes(1);
-    private final PersonalMlbCommentator personalMlbCommentator;
+    private final FeedSource feedSource;
+    private final Duration pollInterval;
+    private final CommentaryGenerator commentaryGenerator;
+    private final TemplateCommentary templateCommentary;
+    private final int playConcurrency;
+    private final Duration playCommentaryTimeout;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final GameTimelineService timelineService;
+    private final PlayQueryIndex playQueryIndex;
+    private final WinExpectancyTables winExpectancyTables;
+    private final GameRepository gameRepository;
+    private final TeamRepository teamRepository;
 
-    private String lastTimestamp = null;
-    private List<String> timestampCache = new ArrayList<>();
-    private int currentTimestampIndex = -1;
-    private Queue<MLBGameEvent> eventQueue = new LinkedList<>();
+    private final ClusterMembership cluster;
+    private final PeerRelay peerRelay;
+    private final EventLagTracker lagTracker;
+    private final int viewerBuffer;
 
-    // Add subscriber tracking
-    private final AtomicInteger activeSubscribers = new AtomicInteger(0);
-    private volatile boolean isStreamActive = false;
+    // One ingestion session per game owned by this node, shared by all of its viewers
+    private final Map<String, LiveGameSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Ingestion state of one game. The poll loop runs only while the game has viewers (local or relayed)
+     * and its state is reset when the last one leaves.
+     */
+    private static class LiveGameSession {
+        private final String gameId;
+        private final BoxScoreAggregator boxScore;
+        private final AtomicInteger subscribers = new AtomicInteger(0);
+        private final Queue<MLBGameEvent> eventQueue = new ConcurrentLinkedQueue<>();
+        // Advanced together with the cursor under ingestLock, so a play is never folded twice
+        private final ReentrantLock ingestLock = new ReentrantLock();
+        private volatile boolean active = false;
+        private volatile String lastTimestamp = null;
+        private TimecodeIndex timecodeIndex = TimecodeIndex.EMPTY;
+        private int currentTimestampIndex = -1;
+        // Ingestion cursor: highest atBatIndex of a completed play already turned into an event
+        private volatile int lastIngestedAtBatIndex = -1;
+        private GameStateEngine stateEngine;
+        private Flux<MLBGameEvent> events;
+        // Diagnostics, written by the poll loop only and read without locking by the games endpoint
+        private final Sinks.Many<Long> repolls = Sinks.many().multicast().directBestEffort();
+        private volatile boolean refreshTimecodes = false;
+        // Set by catch-up viewers: a session that has not polled yet starts at the latest timecode
+        private volatile boolean startAtHead = false;
+        // The plays of that first feed are history, they are folded into the state without being emitted
+        private volatile boolean foldHistory = false;
+        private volatile long polls;
+        private volatile long lastPollAt;
+        // Consecutive failed polls, reset by the next poll that succeeds. A failed poll is resumed on the next
+        // tick instead of ending the loop, so this grows for as long as statsapi keeps failing
+        private volatile int errorStreak;
+        private volatile String lastError;
+        private volatile long lastErrorAt;
+
+        private LiveGameSession(String gameId, WinExpectancyTables tables) {
+            this.gameId = gameId;
+            this.boxScore = new BoxScoreAggregator(gameId);
+            this.stateEngine = new GameStateEngine(tables);
+        }
+    }
 
     @Autowired
-    public GumboDataService(WebClient.Builder webClientBuilder, PersonalMlbCommentator personalMlbCommentator,
-                            ObjectMapper objectMapper, RestTemplate restTemplate) {
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(5 * 1024 * 1024))
-                .build();
-
-        this.webClient = webClientBuilder
-                .baseUrl(MLB_API_BASE_URL)
-                .exchangeStrategies(strategies)
-                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader(HttpHeaders.USER_AGENT, "Spring Boot Application")
-                .build();
-        this.personalMlbCommentator = personalMlbCommentator;
+    public GumboDataService(FeedSource feedSource, CommentaryGenerator commentaryGenerator,
+                            TemplateCommentary templateCommentary, ObjectMapper objectMapper,
+                            GameTimelineService timelineService, PlayQueryIndex playQueryIndex,
+                            WinExpectancyTables winExpectancyTables,
+                            GameRepository gameRepository, TeamRepository teamRepository,
+                            ClusterMembership cluster, PeerRelay peerRelay, EventLagTracker lagTracker,
+                            @Value("${mlb.feed.poll-interval:1m}") Duration pollInterval,
+                            @Value("${mlb.commentary.play-concurrency:5}") int playConcurrency,
+                            @Value("${mlb.commentary.play-timeout:20s}") Duration playCommentaryTimeout,
+                            @Value("${mlb.stream.viewer-buffer:256}") int viewerBuffer) {
+        this.feedSource = feedSource;
+        this.pollInterval = pollInterval;
+        this.commentaryGenerator = commentaryGenerator;
+        this.templateCommentary = templateCommentary;
+        this.playConcurrency = playConcurrency;
+        this.playCommentaryTimeout = playCommentaryTimeout;
         this.objectMapper = objectMapper;
-        this.restTemplate = restTemplate;
+        this.timelineService = timelineService;
+        this.playQueryIndex = playQueryIndex;
+        this.winExpectancyTables = winExpectancyTables;
+        this.gameRepository = gameRepository;
+        this.teamRepository = teamRepository;
+        this.cluster = cluster;
+        this.peerRelay = peerRelay;
+        this.lagTracker = lagTracker;
+        this.viewerBuffer = viewerBuffer;
     }
 
-    private Mono<String> getNextTimestamp() {
+    private Mono<String> getNextTimestamp(LiveGameSession session) {
         // Check if we need to fetch new timestamps
-        if (shouldFetchNewTimestamps()) {
+        if (shouldFetchNewTimestamps(session)) {
             // Fetch new timestamps from MLB API
-            return fetchTimestamps()
-                    .map(timestamps -> {
-                        if (timestamps.isEmpty()) {
+            return fetchTimestamps(session)
+                    .flatMap(index -> {
+                        // Resume right after the last processed timecode (binary search)
+                        int next = index.indexAfter(session.lastTimestamp);
+                        if (session.lastTimestamp == null && session.startAtHead && !index.isEmpty()) {
+                            next = index.size() - 1;
+                            session.foldHistory = true;
+                        }
+                        if (next >= index.size()) {
                             log.debug("No new timestamps available");
-                            return null;
+                            return Mono.empty();
                         }
-                        // Store new timestamps in cache
-                        timestampCache = timestamps;
-                        // Reset index to start of new cache
-                        currentTimestampIndex = 0;
-                        // Return first timestamp from new cache
-                        return timestampCache.get(0);
+                        session.timecodeIndex = index;
+                        session.currentTimestampIndex = next;
+                        return Mono.just(session.timecodeIndex.timecode(next));
                     });
         } else {
-            // Move to next timestamp in existing cache
-            currentTimestampIndex++;
-            log.debug("Using cached timestamp at index: {}", currentTimestampIndex);
-            return Mono.just(timestampCache.get(currentTimestampIndex));
+            // Move to next timestamp in existing index
+            session.currentTimestampIndex++;
+            log.debug("Using cached timestamp at index: {}", session.currentTimestampIndex);
+            return Mono.just(session.timecodeIndex.timecode(session.currentTimestampIndex));
         }
     }
 
     /**
      * Determines if we need to fetch new timestamps
      */
-    private boolean shouldFetchNewTimestamps() {
-        return timestampCache.isEmpty() ||                    // Cache is empty
-                currentTimestampIndex >= timestampCache.size() - 1;  // Reached end of cache
+    private boolean shouldFetchNewTimestamps(LiveGameSession session) {
+        if (session.refreshTimecodes) {                              // Repoll was forced
+            session.refreshTimecodes = false;
+            return true;
+        }
+        return session.timecodeIndex.isEmpty() ||                    // Index is empty
+                session.currentTimestampIndex >= session.timecodeIndex.size() - 1;  // Reached end of index
     }
 
     // Subscriber management methods
-    private void incrementSubscribers() {
-        int count = activeSubscribers.incrementAndGet();
-        isStreamActive = true;
-        log.info("New subscriber connected. Total subscribers: {}", count);
+    private void incrementSubscribers(LiveGameSession session) {
+        int count = session.subscribers.incrementAndGet();
+        log.info("New subscriber connected to game {}. Total subscribers: {}", session.gameId, count);
     }
 
-    private void decrementSubscribers() {
-        int count = activeSubscribers.decrementAndGet();
-        log.info("Subscriber disconnected. Total subscribers: {}", count);
+    private void decrementSubscribers(LiveGameSession session) {
+        int count = session.subscribers.decrementAndGet();
+        log.info("Subscriber disconnected from game {}. Total subscribers: {}", session.gameId, count);
         if (count == 0) {
-            isStreamActive = false;
-            resetState();
-            log.info("All subscribers disconnected. Stopping event generation.");
+            // Only this session and only while still idle: a viewer may have joined or replaced it meanwhile
+            sessions.computeIfPresent(session.gameId,
+                    (id, current) -> current == session && session.subscribers.get() == 0 ? null : current);
         }
     }
 
-    private void resetState() {
-        timestampCache.clear();
-        currentTimestampIndex = -1;
-        eventQueue.clear();
-        lastTimestamp = null;
+    private void resetState(LiveGameSession session) {
+        session.active = false;
+        session.timecodeIndex = TimecodeIndex.EMPTY;
+        session.currentTimestampIndex = -1;
+        session.eventQueue.clear();
+        session.lastTimestamp = null;
+        session.startAtHead = false;
+        session.foldHistory = false;
+        session.ingestLock.lock();
+        try {
+            session.lastIngestedAtBatIndex = -1;
+            session.stateEngine = new GameStateEngine(winExpectancyTables);
+        } finally {
+            session.ingestLock.unlock();
+        }
+        log.info("All subscribers of game {} disconnected. Stopping event generation.", session.gameId);
     }
 
-    public Flux<MLBGameEvent> getLiveFeedStream() {
-        return Flux.create(sink -> {
-            incrementSubscribers();
+    /**
+     * At-bat index of the last play ingested on this node, empty when no session has ingested a play of the game.
+     */
+    public OptionalInt getIngestedAtBatIndex(String gameId) {
+        LiveGameSession session = sessions.get(gameId);
+        return session != null && session.lastIngestedAtBatIndex >= 0
+                ? OptionalInt.of(session.lastIngestedAtBatIndex)
+                : OptionalInt.empty();
+    }
 
-            Disposable subscription = Flux.interval(Duration.ZERO, POLL_INTERVAL)
-                    .takeWhile(tick -> isStreamActive)
-                    .flatMap(tick -> {
-                        if (!isStreamActive) {
-                            return Mono.empty();
-                        }
+    /**
+     * Box score of a game as of the ingestion cursor of its session, on this node or on the owner. Without
+     * a session anywhere (the last viewer left, or the game is over) it is folded from the latest feed.
+     */
+    public Mono<BoxScore> getBoxScore(String gameId) {
+        Optional<BoxScore> local = getLocalBoxScore(gameId);
+        if (local.isPresent()) {
+            return Mono.just(local.get());
+        }
+        String owner = cluster.ownerOf(gameId);
+        Mono<BoxScore> fromOwner = cluster.getSelfUrl().equals(owner)
+                ? Mono.empty()
+                : peerRelay.boxScore(owner, gameId);
+        return fromOwner.switchIfEmpty(Mono.defer(() -> feedSource.getFeed(gameId, null)
+                .map(feed -> foldBoxScore(gameId, feed))
+                .onErrorResume(error -> {
+                    log.warn("No box score for game {}: {}", gameId, error.getMessage());
+                    return Mono.empty();
+                })));
+    }
 
-                        if (!eventQueue.isEmpty()) {
-                            return Mono.just(eventQueue.poll());
-                        }
+    /**
+     * Box score of a game ingested on this node as of its ingestion cursor, empty for other games.
+     */
+    public Optional<BoxScore> getLocalBoxScore(String gameId) {
+        return Optional.ofNullable(sessions.get(gameId)).map(session -> session.boxScore.snapshot());
+    }
+
+    private static BoxScore foldBoxScore(String gameId, MLBGameFeed feed) {
+        BoxScoreAggregator aggregator = new BoxScoreAggregator(gameId);
+        if (feed.getLiveData() != null && feed.getLiveData().getPlays() != null
+                && feed.getLiveData().getPlays().getAllPlays() != null) {
+            feed.getLiveData().getPlays().getAllPlays().forEach(aggregator::fold);
+        }
+        return aggregator.snapshot();
+    }
+
+    /**
+     * Live events of a game for one viewer: from the local session when this node owns the game, relayed
+     * from the owner otherwise. When ownership moves the viewer is re-routed, skipping plays it already saw.
+     */
+    public Flux<MLBGameEvent> getLiveFeedStream(String gameId) {
+        return getLiveFeedStream(gameId, false);
+    }
 
-                        return getNextTimestamp()
-                                .flatMap(timestamp -> processTimestamp(timestamp));
-                    })
-                    .subscribe(
-                            event -> sink.next(event),
-                            error -> {
-                                log.error("Error in live feed stream: ", error);
-                                sink.error(error);
-                                decrementSubscribers();
-                            },
-                            () -> {
-                                log.info("Live feed stream completed");
-                                sink.complete();
-                                decrementSubscribers();
-                            }
-                    );
-
-            // Handle client disconnection
-            sink.onCancel(() -> {
-                subscription.dispose();
-                decrementSubscribers();
+    /**
+     * Live events of a game for one viewer. With fromHead a session started for this viewer begins at the
+     * game's latest timecode instead of replaying it from the first one; a running session is joined as is.
+     */
+    public Flux<MLBGameEvent> getLiveFeedStream(String gameId, boolean fromHead) {
+        AtomicInteger lastSeenAtBatIndex = new AtomicInteger(-1);
+        return Flux.defer(() -> {
+                    String owner = cluster.ownerOf(gameId);
+                    Flux<MLBGameEvent> source = cluster.getSelfUrl().equals(owner)
+                            ? getLocalFeedStream(gameId, fromHead)
+                            : peerRelay.stream(owner, gameId, fromHead);
+                    return source.takeUntilOther(cluster.ringChanges()
+                            .filter(ring -> !owner.equals(ring.nodeFor(gameId))));
+                })
+                .repeatWhen(completions -> completions.delayElements(Duration.ofSeconds(1)))
+                .filter(event -> event.getAtBatIndex() > lastSeenAtBatIndex.get())
+                .doOnNext(event -> lastSeenAtBatIndex.set(event.getAtBatIndex()))
+                // A viewer that stops reading must not hold back the shared poll loop: it gets its own
+                // buffer and is disconnected once that is full
+                .onBackpressureBuffer(viewerBuffer);
+    }
+
+    /**
+     * Events of a game ingested on this node, regardless of ring ownership.
+     */
+    public Flux<MLBGameEvent> getLocalFeedStream(String gameId) {
+        return getLocalFeedStream(gameId, false);
+    }
+
+    /**
+     * Events of a game ingested on this node, starting a new session at the latest timecode when fromHead is set.
+     */
+    public Flux<MLBGameEvent> getLocalFeedStream(String gameId, boolean fromHead) {
+        return Flux.defer(() -> {
+            // Joined under the map's lock, so the last viewer leaving cannot remove a session someone is joining
+            LiveGameSession session = sessions.compute(gameId, (id, existing) -> {
+                LiveGameSession joined = existing;
+                if (joined == null) {
+                    joined = new LiveGameSession(id, winExpectancyTables);
+                    joined.events = pollLoop(joined);
+                }
+                incrementSubscribers(joined);
+                return joined;
             });
-        }, FluxSink.OverflowStrategy.BUFFER);
+            if (fromHead) {
+                session.startAtHead = true;
+            }
+            return session.events
+                    .doFinally(signal -> decrementSubscribers(session));
+        });
+    }
+
+    /**
+     * One poller per game however many viewers it has.
+     */
+    private Flux<MLBGameEvent> pollLoop(LiveGameSession session) {
+        return Flux.merge(Flux.interval(Duration.ZERO, pollInterval), session.repolls.asFlux())
+                .doOnSubscribe(subscription -> session.active = true)
+                .takeWhile(tick -> session.active)
+                // A slow poll skips ticks instead of overlapping with the next one
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    if (!session.active) {
+                        return Mono.empty();
+                    }
+
+                    if (!session.eventQueue.isEmpty()) {
+                        return Mono.just(session.eventQueue.poll());
+                    }
+
+                    session.polls++;
+                    session.lastPollAt = System.currentTimeMillis();
+                    return getNextTimestamp(session)
+                            .flatMap(timestamp -> processTimestamp(session, timestamp))
+                            .doOnSuccess(event -> session.errorStreak = 0)
+                            .doOnError(error -> {
+                                session.errorStreak++;
+                                session.lastError = error.toString();
+                                session.lastErrorAt = System.currentTimeMillis();
+                                log.warn("Poll of game {} failed: {}", session.gameId, error.toString());
+                            })
+                            // Statsapi outages are already retried by FeedResilience, the next tick tries again
+                            .onErrorResume(error -> Mono.empty());
+                })
+                .doOnError(error -> log.error("Error in live feed stream of game {}: ", session.gameId, error))
+                .doFinally(signal -> resetState(session))
+                .publish()
+                .refCount();
+    }
+
+    /**
+     * Polls a game right away, refetching its timecodes. False when the game has no running session.
+     */
+    public boolean repoll(String gameId) {
+        LiveGameSession session = sessions.get(gameId);
+        if (session == null || !session.active) {
+            return false;
+        }
+        session.refreshTimecodes = true;
+        return session.repolls.tryEmitNext(System.currentTimeMillis()).isSuccess();
+    }
+
+    public Set<String> getSessionGameIds() {
+        return sessions.keySet();
+    }
+
+    /**
+     * Ingestion state of a game's session on this node, null when there is none. Reads volatile fields only.
+     * {@code errorStreak} counts consecutive failed polls; {@code lastError} stays set after a recovery.
+     */
+    public Map<String, Object> describeSession(String gameId) {
+        LiveGameSession session = sessions.get(gameId);
+        if (session == null) {
+            return null;
+        }
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("active", session.active);
+        state.put("pollIntervalMillis", pollInterval.toMillis());
+        state.put("polls", session.polls);
+        state.put("lastPollAt", session.lastPollAt);
+        state.put("lastTimecode", session.lastTimestamp);
+        state.put("ingestCursor", session.lastIngestedAtBatIndex);
+        state.put("backlog", session.eventQueue.size());
+        state.put("streams", session.subscribers.get());
+        state.put("errorStreak", session.errorStreak);
+        state.put("lastError", session.lastError);
+        state.put("lastErrorAt", session.lastErrorAt);
+        return state;
     }
 
-    private Mono<MLBGameEvent> processTimestamp(String timestamp) {
-        if (timestamp != null && !timestamp.equals(lastTimestamp)) {
-            lastTimestamp = timestamp;
-            return fetchLiveFeed(timestamp)
+    private Mono<MLBGameEvent> processTimestamp(LiveGameSession session, String timestamp) {
+        if (timestamp != null && !timestamp.equals(session.lastTimestamp)) {
+            session.lastTimestamp = timestamp;
+            return fetchLiveFeed(session, timestamp)
                     .collectList()
                     .flatMap(events -> {
-                        eventQueue.addAll(events);
-                        return Mono.justOrEmpty(eventQueue.poll());
+                        session.eventQueue.addAll(events);
+                        return Mono.justOrEmpty(session.eventQueue.poll());
                     });
         }
         return Mono.empty();
     }
 
-    private Mono<List<String>> fetchTimestamps() {
-        if (!isStreamActive) {
+    private Mono<TimecodeIndex> fetchTimestamps(LiveGameSession session) {
+        if (!session.active) {
             return Mono.empty();
         }
 
-        return webClient.get()
-                .uri("/game/{gameId}/feed/live/timestamps", getCurrentGameId())
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<String>>() {})
-                .map(this::processTimestamps)
-                .doOnError(error -> log.error("Error fetching timestamps: ", error));
-    }
-
-    private List<String> processTimestamps(List<String> timestamps) {
-        if (timestamps == null || timestamps.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        if (lastTimestamp != null) {
-            int startIndex = timestamps.indexOf(lastTimestamp);
-            if (startIndex >= 0 && startIndex < timestamps.size() - 1) {
-                return timestamps.subList(startIndex + 1, timestamps.size());
-            }
-        }
-        return timestamps;
+        // Shared with the timeline service so the timecodes are parsed once per refresh
+        return Mono.defer(() -> {
+            PlayTraceEvents.TimecodesFetched trace = new PlayTraceEvents.TimecodesFetched();
+            trace.begin();
+            return timelineService.refreshTimecodes(session.gameId)
+                    .doOnNext(index -> {
+                        if (trace.shouldCommit()) {
+                            trace.gamePk = session.gameId;
+                            trace.atBatIndex = session.lastIngestedAtBatIndex;
+                            trace.timecode = index.last();
+                            trace.timecodes = index.size();
+                            trace.commit();
+                        }
+                    });
+        });
     }
 
-    private Flux<MLBGameEvent> fetchLiveFeed(String timestamp) {
-        if (!isStreamActive) {
+    private Flux<MLBGameEvent> fetchLiveFeed(LiveGameSession session, String timestamp) {
+        if (!session.active) {
             return Flux.empty();
         }
 
-        return webClient.get()
-                .uri("/game/{gameId}/feed/live?timecode={timestamp}",
-                        getCurrentGameId(),
-                        timestamp)
-                .retrieve()
-                .bodyToMono(MLBGameFeed.class)
-                .map(this::createGameEvent)
-                .flatMapMany(Flux::fromIterable)
+        return Mono.defer(() -> {
+                    PlayTraceEvents.FeedParsed trace = new PlayTraceEvents.FeedParsed();
+                    trace.begin();
+                    return feedSource.getFeed(session.gameId, timestamp)
+                            .doOnNext(feed -> traceFeedParsed(trace, session.gameId, timestamp, feed));
+                })
+                .flatMapMany(feed -> Flux.fromIterable(createPendingPlays(session, feed, timestamp)))
+                // Commentary for all new plays runs concurrently, events are still emitted in play order
+                .flatMapSequential(pending -> withCommentary(session, pending, timestamp), playConcurrency)
                 .doOnNext(event -> {
-                    if (isStreamActive) {
+                    if (session.active) {
                         event.setTimestamp(timestamp);
                         log.info("Received game event: {} at timestamp: {}", event.getType(), timestamp);
                     }
+                    // Queued for the store's writer thread, never blocks the stream
+                    gameRepository.appendEvent(session.gameId, event);
                 })
                 .doOnError(error -> log.error("Error fetching live feed: ", error));
     }
 
-    private List<MLBGameEvent> createGameEvent(MLBGameFeed feed) {
-        if (!isStreamActive) {
+    private void traceFeedParsed(PlayTraceEvents.FeedParsed trace, String gameId, String timestamp, MLBGameFeed feed) {
+        if (!trace.shouldCommit()) {
+            return;
+        }
+        List<MLBGameFeed.PlayEvent> plays = feed.getLiveData() != null && feed.getLiveData().getPlays() != null
+                ? feed.getLiveData().getPlays().getAllPlays()
+                : null;
+        trace.gamePk = gameId;
+        trace.timecode = timestamp;
+        trace.plays = plays != null ? plays.size() : 0;
+        trace.atBatIndex = plays != null && !plays.isEmpty() ? plays.get(plays.size() - 1).getAbout().getAtBatIndex() : -1;
+        trace.commit();
+    }
+
+    private record PendingPlay(MLBGameFeed.PlayEvent play, MLBGameEvent event, Map<String, Object> gameContext) {
+    }
+
+    /**
+     * Completed plays past the ingestion cursor, with their events and commentary context. Advances the cursor.
+     */
+    private List<PendingPlay> createPendingPlays(LiveGameSession session, MLBGameFeed feed, String timestamp) {
+        if (!session.active) {
             return Collections.emptyList();
         }
 
-        List<MLBGameEvent> events = new ArrayList<>();
+        List<PendingPlay> pending = new ArrayList<>();
         MLBGameFeed.LiveData liveData = feed.getLiveData();
         MLBGameFeed.GameData gameData = feed.getGameData();
         MLBGameFeed.Linescore linescore = liveData.getLinescore();
 
-        if (liveData.getPlays() != null && liveData.getPlays().getAllPlays() != null) {
+        if (liveData.getPlays() == null || liveData.getPlays().getAllPlays() == null) {
+            return pending;
+        }
+
+        long publishedAt = publishedAt(feed, timestamp);
+        boolean history = session.foldHistory;
+        session.foldHistory = false;
+        session.ingestLock.lock();
+        try {
+            int cursor = session.lastIngestedAtBatIndex;
             for (MLBGameFeed.PlayEvent play : liveData.getPlays().getAllPlays()) {
-                if (!isStreamActive) break;  // Stop processing if no subscribers
+                if (!session.active) break;  // Stop processing if no subscribers
+                if (!play.getAbout().isComplete() || play.getAbout().getAtBatIndex() <= session.lastIngestedAtBatIndex) {
+                    continue;
+                }
+                cursor = Math.max(cursor, play.getAbout().getAtBatIndex());
+                // Plays arrive in order past the cursor, so every completed play reaches the engine once
+                session.stateEngine.apply(play);
+                session.boxScore.fold(play);
+                if (history) {
+                    continue;  // Already covered by the catch-up summary, no event or commentary
+                }
 
                 MLBGameEvent event = convertToGameEvent(play);
+                event.setIngestedAt(System.currentTimeMillis());
+                event.setAtBatIndex(play.getAbout().getAtBatIndex());
+                event.setPlayEndedAt(parseEpochMillis(play.getAbout().getEndTime()));
+                event.setPublishedAt(publishedAt);
+                lagTracker.ingested(session.gameId, event);
+                tracePlayDerived(session.gameId, event, timestamp);
                 if (isValidEvent(event)) {
-                    try {
-                        Map<String, Object> gameContext = buildGameContext(play, linescore, gameData);
-
-                        if (isStreamActive) {  // Check again before making LLM call
-                            String gameContextJson = objectMapper.writeValueAsString(gameContext);
-                            String chat = personalMlbCommentator.chat("riaz", gameContextJson);
-                            event.setDescription(chat);
-                            events.add(event);
-                        }
-                    } catch (JsonProcessingException e) {
-                        log.error("Error processing game event: ", e);
-                    }
+                    Map<String, Object> gameContext = buildGameContext(play, linescore, gameData);
+                    gameContext.putAll(session.stateEngine.toContext());
+                    pending.add(new PendingPlay(play, event, gameContext));
                 }
             }
+            session.lastIngestedAtBatIndex = cursor;
+        } finally {
+            session.ingestLock.unlock();
+        }
+        return pending;
+    }
+
+    private long publishedAt(MLBGameFeed feed, String timestamp) {
+        String timecode = feed.getMetaData() != null && feed.getMetaData().getTimeStamp() != null
+                ? feed.getMetaData().getTimeStamp()
+                : timestamp;
+        try {
+            return timecode != null ? TimecodeIndex.toEpochMillis(timecode) : 0;
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    private long parseEpochMillis(String isoInstant) {
+        try {
+            return isoInstant != null ? Instant.parse(isoInstant).toEpochMilli() : 0;
+        } catch (DateTimeParseException e) {
+            return 0;
         }
-        return events;
+    }
+
+    private void tracePlayDerived(String gameId, MLBGameEvent event, String timestamp) {
+        PlayTraceEvents.PlayDerived trace = new PlayTraceEvents.PlayDerived();
+        if (trace.shouldCommit()) {
+            trace.gamePk = gameId;
+            trace.atBatIndex = event.getAtBatIndex();
+            trace.timecode = timestamp;
+            trace.eventType = event.getType();
+            trace.commit();
+        }
+    }
+
+    private Mono<MLBGameEvent> withCommentary(LiveGameSession session, PendingPlay pending, String timestamp) {
+        if (!session.active) {  // Check again before making LLM call
+            return Mono.empty();
+        }
+
+        MLBGameFeed.PlayEvent play = pending.play();
+        PlayTraceEvents.Commentary trace = new PlayTraceEvents.Commentary();
+        // The model call itself runs on the dispatcher's bounded workers, never on this event loop thread
+        return Mono.fromFuture(() -> {
+                    trace.begin();
+                    return requestCommentary(pending.gameContext(), play);
+                })
+                .timeout(playCommentaryTimeout)
+                .doOnNext(commentary -> traceCommentary(trace, session.gameId, pending.event(), timestamp, play,
+                        "returned", commentary.tier()))
+                .map(CommentaryGenerator.TieredCommentary::text)
+                .onErrorResume(error -> {
+                    if (error instanceof TimeoutException) {
+                        log.warn("Commentary for play {} timed out, using template", play.getAbout().getAtBatIndex());
+                        traceCommentary(trace, session.gameId, pending.event(), timestamp, play, "timeout",
+                                CommentaryTier.TEMPLATE);
+                    } else {
+                        log.warn("Commentary for play {} failed, using template", play.getAbout().getAtBatIndex(), error);
+                        traceCommentary(trace, session.gameId, pending.event(), timestamp, play, "error",
+                                CommentaryTier.TEMPLATE);
+                    }
+                    return Mono.fromSupplier(() -> templateCommentary.render(play));
+                })
+                .map(description -> {
+                    pending.event().setDescription(description);
+                    pending.event().setReadyAt(System.currentTimeMillis());
+                    lagTracker.commentaryReady(session.gameId, pending.event());
+                    return pending.event();
+                });
+    }
+
+    private void traceCommentary(PlayTraceEvents.Commentary trace, String gameId, MLBGameEvent event, String timestamp,
+                                 MLBGameFeed.PlayEvent play, String outcome, CommentaryTier tier) {
+        if (trace.shouldCommit()) {
+            trace.gamePk = gameId;
+            trace.atBatIndex = event.getAtBatIndex();
+            trace.timecode = timestamp;
+            trace.priority = (play.getAbout().isScoringPlay()
+                    ? CommentaryPriority.LIVE_SCORING
+                    : CommentaryPriority.LIVE_ROUTINE).name();
+            trace.outcome = outcome;
+            trace.tier = tier.name();
+            trace.commit();
+        }
+    }
+
+    private CompletableFuture<CommentaryGenerator.TieredCommentary> requestCommentary(Map<String, Object> gameContext,
+                                                                                     MLBGameFeed.PlayEvent play) {
+        CommentaryPriority priority = play.getAbout().isScoringPlay()
+                ? CommentaryPriority.LIVE_SCORING
+                : CommentaryPriority.LIVE_ROUTINE;
+        int awayScore = play.getResult().getAwayScore() != null ? play.getResult().getAwayScore() : 0;
+        int homeScore = play.getResult().getHomeScore() != null ? play.getResult().getHomeScore() : 0;
+        return commentaryGenerator.generateTiered("riaz", play, gameContext, priority, awayScore, homeScore);
     }
 
     private Map<String, Object> buildGameContext(MLBGameFeed.PlayEvent play,
@@ -287,10 +632,13 @@ public class GumboDataService {
         // Count
         addCountInfo(gameContext, play);
 
+        // Previous meetings of this batter and pitcher in archived games
+        addMatchupHistory(gameContext, play);
+
         return gameContext;
     }
 
-    private String getCurrentGameId() {
+    public String getCurrentGameId() {
         return "775296";
     }
 
@@ -346,6 +694,7 @@ public class GumboDataService {
             event.setBalls(play.getCount().getBalls());
             event.setStrikes(play.getCount().getStrikes());
             event.setOuts(play.getCount().getOuts());
+            event.setPitchCount(play.getCount().getPitches());
         }
 
         // Set score if available
@@ -358,33 +707,51 @@ public class GumboDataService {
     }
 
     public MLBResponse getSchedule(String startDate, String endDate) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl("https://statsapi.mlb.com/api/v1/schedule/")
-                .queryParam("sportId", 1)
-                .queryParam("season", 2024)
-                .queryParam("startDate", startDate)
-                .queryParam("endDate", endDate);
-
-        RequestEntity<?> request = RequestEntity
-                .get(builder.build().toUri())
-                .headers(headers)
-                .build();
-
         try {
-            ResponseEntity<MLBResponse> response = restTemplate.exchange(
-                    request,
-                    MLBResponse.class
-            );
-
-            return response.getBody();
-        }catch (Exception e) {
+            MLBResponse schedule = feedSource.getSchedule(startDate, endDate).block();
+            if (schedule != null) {
+                saveSchedule(startDate, endDate, schedule);
+            }
+            return schedule;
+        } catch (Exception e) {
             log.error("Unexpected error while fetching MLB schedule: {}", e.getMessage());
-            throw new RuntimeException("Failed to fetch MLB schedule", e);
+            // Serve the last stored copy if we have one
+            return gameRepository.findSchedule(startDate, endDate)
+                    .orElseThrow(() -> new RuntimeException("Failed to fetch MLB schedule", e));
+        }
+    }
+
+    private void saveSchedule(String startDate, String endDate, MLBResponse schedule) {
+        gameRepository.saveSchedule(startDate, endDate, schedule);
+        if (schedule.getDates() == null) {
+            return;
+        }
+        for (MLBResponse.DateData date : schedule.getDates()) {
+            if (date.getGames() == null) {
+                continue;
+            }
+            for (MLBResponse.GameData gameData : date.getGames()) {
+                Game game = new Game();
+                game.setId(gameData.getGamePk());
+                game.setMlbGameId(gameData.getGamePk());
+                game.setGameDate(LocalDate.parse(gameData.getOfficialDate()));
+                game.setAwayTeam(saveTeam(gameData.getTeams().getAway().getTeam()));
+                game.setHomeTeam(saveTeam(gameData.getTeams().getHome().getTeam()));
+                game.setTitle(game.getAwayTeam().getName() + " @ " + game.getHomeTeam().getName());
+                gameRepository.saveGame(game);
+            }
         }
     }
 
+    private Team saveTeam(MLBResponse.Team scheduled) {
+        Team team = new Team();
+        team.setId(scheduled.getId());
+        team.setName(scheduled.getName());
+        team.setLink(scheduled.getLink());
+        teamRepository.save(team);
+        return team;
+    }
+
     private void addPitcherInfo(Map<String, Object> gameContext, MLBGameFeed.Linescore linescore) {
         if (linescore.getDefense() != null && linescore.getDefense().getPitcher() != null) {
             gameContext.put("currentPitcher", linescore.getDefense().getPitcher().getFullName());
@@ -398,7 +765,8 @@ public class GumboDataService {
                                MLBGameFeed.PlayEvent play) {
         if (linescore.getOffense() != null && linescore.getOffense().getBatter() != null) {
             gameContext.put("currentBatter", linescore.getOffense().getBatter().getFullName());
-            if (play.getMatchup().getBatter().getBatSide() != null) {
+            if (play.getMatchup() != null && play.getMatchup().getBatter() != null
+                    && play.getMatchup().getBatter().getBatSide() != null) {
                 gameContext.put("batterSide", play.getMatchup().getBatter().getBatSide().getDescription());
             }
         }
@@ -413,4 +781,16 @@ public class GumboDataService {
             gameContext.put("count", count);
         }
     }
-}
\ No newline at end of file
+
+    private void addMatchupHistory(Map<String, Object> gameContext, MLBGameFeed.PlayEvent play) {
+        MLBGameFeed.Matchup matchup = play.getMatchup();
+        if (matchup == null || matchup.getBatter() == null || matchup.getPitcher() == null) {
+            return;
+        }
+        Map<String, Object> history = playQueryIndex.matchupHistory(
+                matchup.getBatter().getId(), matchup.getPitcher().getId());
+        if (!history.isEmpty()) {
+            gameContext.put("matchupHistory", history);
+        }
+    }
+}
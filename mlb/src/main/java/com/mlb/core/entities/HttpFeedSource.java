@@ -0,0 +1,119 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Reads GUMBO data from statsapi (or anything serving the same paths under {@code mlb.feed.base-url}),
+ * every call going through {@link FeedResilience}.
+ */
+@Component
+@ConditionalOnProperty(name = "mlb.feed.source", havingValue = "http", matchIfMissing = true)
+public class HttpFeedSource extends JsonFeedSource {
+    private final WebClient webClient;
+    private final String scheduleUrl;
+    private final String peopleUrl;
+    private final FeedResilience resilience;
+
+    @Autowired
+    public HttpFeedSource(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                          PlayerRegistry playerRegistry, FeedResilience resilience,
+                          @Value("${mlb.feed.base-url:https://statsapi.mlb.com/api/v1.1}") String baseUrl,
+                          @Value("${mlb.feed.schedule-url:https://statsapi.mlb.com/api/v1/schedule/}") String scheduleUrl,
+                          @Value("${mlb.feed.people-url:https://statsapi.mlb.com/api/v1/people}") String peopleUrl) {
+        super(objectMapper, playerRegistry);
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(5 * 1024 * 1024))
+                .build();
+
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .exchangeStrategies(strategies)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.USER_AGENT, "Spring Boot Application")
+                .build();
+        this.scheduleUrl = scheduleUrl;
+        this.peopleUrl = peopleUrl;
+        this.resilience = resilience;
+    }
+
+    @Override
+    protected Mono<String> getTimestampsJson(String gameId) {
+        return resilience.fetch("timestamps", "timestamps:" + gameId, () -> webClient.get()
+                .uri("/game/{gameId}/feed/live/timestamps", gameId)
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    @Override
+    protected Mono<String> getFeedJson(String gameId, String timecode) {
+        WebClient.RequestHeadersSpec<?> request = timecode == null
+                ? webClient.get().uri("/game/{gameId}/feed/live", gameId)
+                : webClient.get().uri("/game/{gameId}/feed/live?timecode={timecode}", gameId, timecode);
+        // The poll loop never asks for a timecode twice, only the latest feed is worth a fallback
+        String snapshotKey = timecode == null ? "feed:" + gameId : null;
+        return resilience.fetch("feed", snapshotKey, () -> request.retrieve().bodyToMono(String.class));
+    }
+
+    @Override
+    protected Mono<String> getArchivedFeedJson(String gameId) {
+        // Own circuit and hedge budget: a failing backfill must not trip the breaker of live games
+        return resilience.fetch("feed-archive", null, () -> webClient.get()
+                .uri("/game/{gameId}/feed/live", gameId)
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    @Override
+    protected Mono<String> getScheduleJson(String startDate, String endDate) {
+        return resilience.fetch("schedule", "schedule:" + startDate + ":" + endDate, () -> webClient.get()
+                .uri(UriComponentsBuilder.fromHttpUrl(scheduleUrl)
+                        .queryParam("sportId", 1)
+                        .queryParam("season", startDate.substring(0, 4))
+                        .queryParam("startDate", startDate)
+                        .queryParam("endDate", endDate)
+                        .build()
+                        .toUri())
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    @Override
+    protected Mono<String> getSeasonScheduleJson(int season) {
+        return resilience.fetch("schedule", "schedule:" + season, () -> webClient.get()
+                .uri(UriComponentsBuilder.fromHttpUrl(scheduleUrl)
+                        .queryParam("sportId", 1)
+                        .queryParam("season", season)
+                        .build()
+                        .toUri())
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    @Override
+    protected Mono<String> getPeopleJson(Collection<Integer> personIds, int season) {
+        String ids = personIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        // Refreshed every few minutes in batches that never repeat exactly, no fallback worth keeping
+        return resilience.fetch("people", null, () -> webClient.get()
+                .uri(UriComponentsBuilder.fromHttpUrl(peopleUrl)
+                        .queryParam("personIds", "{ids}")
+                        .queryParam("hydrate", "{hydrate}")
+                        .encode()
+                        .buildAndExpand(ids, "stats(group=[hitting,pitching],type=[season],season=" + season + ")")
+                        .toUri())
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Base for feed sources that obtain raw JSON documents; parses them leniently since our models only
+ * map the parts of the GUMBO payload we use. Documents arrive on the HTTP client's event loop and are
+ * parsed on the parallel scheduler, a full GUMBO feed takes milliseconds to map.
+ */
+public abstract class JsonFeedSource implements FeedSource {
+    private final ObjectReader reader;
+
+    protected JsonFeedSource(ObjectMapper objectMapper, PlayerRegistry playerRegistry) {
+        // Players are resolved to the registry's shared instances while parsing
+        this.reader = objectMapper.copy()
+                .registerModule(playerRegistry.jacksonModule())
+                .reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    protected abstract Mono<String> getTimestampsJson(String gameId);
+
+    protected abstract Mono<String> getFeedJson(String gameId, String timecode);
+
+    protected abstract Mono<String> getScheduleJson(String startDate, String endDate);
+
+    protected abstract Mono<String> getSeasonScheduleJson(int season);
+
+    protected abstract Mono<String> getPeopleJson(Collection<Integer> personIds, int season);
+
+    /**
+     * Final feed of a finished game; the latest feed unless the source keeps archive traffic apart.
+     */
+    protected Mono<String> getArchivedFeedJson(String gameId) {
+        return getFeedJson(gameId, null);
+    }
+
+    @Override
+    public Mono<List<String>> getTimestamps(String gameId) {
+        return getTimestampsJson(gameId)
+                .publishOn(Schedulers.parallel())
+                .map(json -> parse(json, new TypeReference<List<String>>() {}));
+    }
+
+    @Override
+    public Mono<MLBGameFeed> getFeed(String gameId, String timecode) {
+        return getFeedJson(gameId, timecode)
+                .publishOn(Schedulers.parallel())
+                .map(json -> parse(json, new TypeReference<MLBGameFeed>() {}));
+    }
+
+    @Override
+    public Mono<String> getArchivedFeedDocument(String gameId) {
+        return getArchivedFeedJson(gameId);
+    }
+
+    @Override
+    public MLBGameFeed parseFeed(String json) {
+        return parse(json, new TypeReference<MLBGameFeed>() {});
+    }
+
+    @Override
+    public Mono<MLBResponse> getSchedule(String startDate, String endDate) {
+        return getScheduleJson(startDate, endDate)
+                .publishOn(Schedulers.parallel())
+                .map(json -> parse(json, new TypeReference<MLBResponse>() {}));
+    }
+
+    @Override
+    public Mono<SeasonSchedule> getSeasonSchedule(int season) {
+        return getSeasonScheduleJson(season)
+                .publishOn(Schedulers.parallel())
+                .map(json -> parse(json, new TypeReference<SeasonSchedule>() {}));
+    }
+
+    @Override
+    public Mono<JsonNode> getPeopleWithSeasonStats(Collection<Integer> personIds, int season) {
+        return getPeopleJson(personIds, season)
+                .publishOn(Schedulers.parallel())
+                .map(json -> parse(json, new TypeReference<JsonNode>() {}));
+    }
+
+    protected <T> T parse(String json, TypeReference<T> type) {
+        try {
+            return reader.forType(type).readValue(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to parse feed document", e);
+        }
+    }
+}
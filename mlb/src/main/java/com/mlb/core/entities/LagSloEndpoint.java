@@ -0,0 +1,38 @@
+package com.mlb.core.entities;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/lag}: per game lag percentiles of every hop and the end-to-end SLO report with burn rates
+ * and firing alerts (GET), {@code /actuator/lag/{gameId}} for one game, DELETE resets a game's histograms.
+ */
+@Component
+@Endpoint(id = "lag")
+public class LagSloEndpoint {
+    private final EventLagTracker lagTracker;
+
+    public LagSloEndpoint(EventLagTracker lagTracker) {
+        this.lagTracker = lagTracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        return lagTracker.report();
+    }
+
+    @ReadOperation
+    public Map<String, Object> game(@Selector String gameId) {
+        return lagTracker.report(gameId);
+    }
+
+    @DeleteOperation
+    public void reset(@Selector String gameId) {
+        lagTracker.reset(gameId);
+    }
+}
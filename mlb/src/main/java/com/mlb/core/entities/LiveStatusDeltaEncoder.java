@@ -0,0 +1,77 @@
+package com.mlb.core.entities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-stream encoder for the compact play stream. The first frame and every
+ * {@code keyframeInterval}-th frame carry the full {@link MLBGameService.LiveGameStatus},
+ * the frames in between only carry the status fields that changed since the previous frame.
+ * Each encoded frame becomes the baseline of the next: a frame that fails to serialize or write
+ * ends the stream, and the encoder with it, so no later delta builds on a frame the client missed.
+ */
+public class LiveStatusDeltaEncoder {
+
+    private final int keyframeInterval;
+    private Map<String, Object> lastFields;
+    private UserPrediction lastPrediction;
+    private long sequence = 0;
+
+    public LiveStatusDeltaEncoder(int keyframeInterval) {
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+    }
+
+    public MLBGameService.GameEventDelta encode(MLBGameEvent event, MLBGameService.LiveGameStatus status,
+                                               UserPrediction prediction) {
+        Map<String, Object> fields = volatileFields(status);
+
+        MLBGameService.GameEventDelta frame = new MLBGameService.GameEventDelta();
+        frame.setSeq(sequence);
+        frame.setEvent(event);
+
+        if (lastFields == null || sequence % keyframeInterval == 0) {
+            frame.setKeyframe(true);
+            frame.setStatus(status);
+            frame.setUserPrediction(prediction);
+        } else {
+            Map<String, Object> changed = new LinkedHashMap<>();
+            fields.forEach((name, value) -> {
+                if (!Objects.equals(value, lastFields.get(name))) {
+                    changed.put(name, value);
+                }
+            });
+            if (!changed.isEmpty()) {
+                frame.setStatusDelta(changed);
+            }
+            // Predictions rarely change, only resend when the user made a new one
+            if (!Objects.equals(prediction, lastPrediction)) {
+                frame.setUserPrediction(prediction);
+            }
+        }
+
+        lastFields = fields;
+        lastPrediction = prediction;
+        sequence++;
+        return frame;
+    }
+
+    /**
+     * Status fields that can change during a game. Team names and records are only sent on keyframes.
+     */
+    private Map<String, Object> volatileFields(MLBGameService.LiveGameStatus status) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("inning", status.getInning());
+        fields.put("awayScore", status.getAwayTeam() != null ? status.getAwayTeam().getScore() : null);
+        fields.put("homeScore", status.getHomeTeam() != null ? status.getHomeTeam().getScore() : null);
+        fields.put("balls", status.getBalls());
+        fields.put("strikes", status.getStrikes());
+        fields.put("outs", status.getOuts());
+        fields.put("currentPitcher", status.getCurrentPitcher());
+        fields.put("pitchCount", status.getPitchCount());
+        fields.put("runExpectancy", status.getRunExpectancy());
+        fields.put("homeWinProbability", status.getHomeWinProbability());
+        fields.put("leverageIndex", status.getLeverageIndex());
+        return fields;
+    }
+}
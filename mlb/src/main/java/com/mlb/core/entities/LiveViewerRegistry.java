@@ -0,0 +1,107 @@
+package com.mlb.core.entities;
+
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Open live-feed connections of this node. Each viewer only writes its own volatile fields from its stream,
+ * so listing them never blocks delivery. Evicting a viewer cancels its stream and completes the response.
+ */
+@Component
+public class LiveViewerRegistry {
+
+    private final Map<String, Viewer> viewers = new ConcurrentHashMap<>();
+
+    public static class Viewer {
+        private final String id = UUID.randomUUID().toString();
+        private final String gameId;
+        private final long connectedAt = System.currentTimeMillis();
+        private final Sinks.Empty<Void> eviction = Sinks.empty();
+        private volatile long frames;
+        private volatile long lastFrameAt;
+        private volatile int lastAtBatIndex = -1;
+        // Ingestion to write of the latest frame
+        private volatile long lagMillis;
+        private volatile long maxLagMillis;
+
+        private Viewer(String gameId) {
+            this.gameId = gameId;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Mono<Void> evicted() {
+            return eviction.asMono();
+        }
+
+        public void frameWritten(MLBGameEvent event) {
+            long now = System.currentTimeMillis();
+            lastFrameAt = now;
+            lastAtBatIndex = event.getAtBatIndex();
+            lagMillis = event.getIngestedAt() > 0 ? now - event.getIngestedAt() : 0;
+            maxLagMillis = Math.max(maxLagMillis, lagMillis);
+            frames++;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("id", id);
+            values.put("connectedAt", connectedAt);
+            values.put("frames", frames);
+            values.put("lastFrameAt", lastFrameAt);
+            values.put("lastAtBatIndex", lastAtBatIndex);
+            values.put("lagMillis", lagMillis);
+            values.put("maxLagMillis", maxLagMillis);
+            return values;
+        }
+    }
+
+    public Viewer open(String gameId) {
+        Viewer viewer = new Viewer(gameId);
+        viewers.put(viewer.id, viewer);
+        return viewer;
+    }
+
+    public void close(Viewer viewer) {
+        viewers.remove(viewer.id);
+    }
+
+    public boolean evict(String gameId, String viewerId) {
+        Viewer viewer = viewers.get(viewerId);
+        if (viewer == null || !viewer.gameId.equals(gameId)) {
+            return false;
+        }
+        viewer.eviction.tryEmitEmpty();
+        return true;
+    }
+
+    public int count(String gameId) {
+        return (int) viewers.values().stream().filter(viewer -> viewer.gameId.equals(gameId)).count();
+    }
+
+    /**
+     * Viewers of a game with the highest lag on their latest frame first.
+     */
+    public List<Map<String, Object>> slowest(String gameId, int limit) {
+        return viewers.values().stream()
+                .filter(viewer -> viewer.gameId.equals(gameId))
+                .sorted(Comparator.comparingLong((Viewer viewer) -> viewer.lagMillis).reversed())
+                .limit(limit)
+                .map(Viewer::toMap)
+                .toList();
+    }
+
+    public List<String> gameIds() {
+        return viewers.values().stream().map(viewer -> viewer.gameId).distinct().toList();
+    }
+}
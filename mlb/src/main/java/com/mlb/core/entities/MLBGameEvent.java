@@ -7,6 +7,8 @@ import lombok.Data;
 public class MLBGameEvent {
     private String type;
     private String description;
+    // Per-viewer line on their prediction, description is the narrative shared by all viewers
+    private String predictionFeedback;
     private int inning;
     private boolean topInning;
     private String batterName;
@@ -19,5 +21,16 @@ public class MLBGameEvent {
     private int balls;
     private int strikes;
     private int outs;
+    // Pitches thrown in the plate appearance
+    private int pitchCount;
+    private int atBatIndex;
     private String timestamp;
+    // Epoch millis when we ingested the play, used to measure delivery latency
+    private long ingestedAt;
+    // Epoch millis of the play ending on the field (about.endTime) and of the snapshot that carried it,
+    // 0 when the feed did not say
+    private long playEndedAt;
+    private long publishedAt;
+    // Epoch millis when the commentary was ready
+    private long readyAt;
 }
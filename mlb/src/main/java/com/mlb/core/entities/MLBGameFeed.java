@@ -1,21 +1,42 @@
 package com.mlb.core.entities;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.With;
 
 import java.util.List;
 
 @Data
 public class MLBGameFeed {
+    @JsonProperty("metaData")
+    private MetaData metaData;
     @JsonProperty("gameData")
     private GameData gameData;
     @JsonProperty("liveData")
     private LiveData liveData;
 
+    @Data
+    public static class MetaData {
+        // Timecode of this snapshot, "yyyyMMdd_HHmmss" UTC
+        private String timeStamp;
+    }
+
     @Data
     public static class GameData {
         private Teams teams;
         private Game game;
+        private Status status;
+    }
+
+    @Data
+    public static class Status {
+        // "Preview", "Live" or "Final"
+        private String abstractGameState;
+        private String detailedState;
     }
 
     @Data
@@ -40,6 +61,7 @@ public class MLBGameFeed {
     public static class Game {
         private String gameDate;
         private String pk;
+        private String season;
     }
 
     @Data
@@ -84,7 +106,10 @@ public class MLBGameFeed {
             private Hand batSide;
         }
 
-        @Data
+        // Interned by PlayerRegistry and shared across feeds
+        @Value
+        @AllArgsConstructor
+        @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
         public static class Hand {
             private String description;
             private String code;
@@ -104,6 +129,37 @@ public class MLBGameFeed {
         @JsonProperty("matchup")
         private Matchup matchup;
         private Count count;
+        private List<Runner> runners;
+        // Indexes of the pitches among the play's events
+        private List<Integer> pitchIndex;
+    }
+
+    @Data
+    public static class Runner {
+        private Movement movement;
+        private RunnerDetails details;
+        private List<Credit> credits;
+    }
+
+    @Data
+    public static class Movement {
+        private String start;
+        private String end;  // "score" when the runner crossed the plate
+        @JsonProperty("isOut")
+        private boolean out;
+    }
+
+    @Data
+    public static class RunnerDetails {
+        private Person runner;
+        private Person responsiblePitcher;
+        private boolean earned;
+    }
+
+    @Data
+    public static class Credit {
+        private String credit;
+        private Person player;
     }
 
     @Data
@@ -121,60 +177,100 @@ public class MLBGameFeed {
         private String eventType;
         private Integer homeScore;
         private Integer awayScore;
+        private int rbi;
     }
 
     @Data
     public static class About {
+        private int atBatIndex;
+        private String halfInning;
         private int inning;
         private boolean isTopInning;
         private Long timestamp;
+        private String startTime;
+        private String endTime;
+        @JsonProperty("isComplete")
+        private boolean complete;
+        @JsonProperty("isScoringPlay")
+        private boolean scoringPlay;
+        private int captivatingIndex;
     }
     @Data
     public static class Matchup {
         private Batter batter;
         private Pitcher pitcher;
+        // Runners on base after the play, absent when the base is empty
+        private Person postOnFirst;
+        private Person postOnSecond;
+        private Person postOnThird;
     }
 
     @Data
+    public static class Person {
+        private int id;
+        private String fullName;
+    }
+
+    // PlayerRegistry shares canonical player records across feeds, so they are immutable; Jackson fills
+    // the fields through the private no-args constructor
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class Batter {
+        private int id;
         private String fullName;
+        @With
         private Stats stats;
         private BatSide batSide;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class Pitcher {
+        private int id;
         private String fullName;
+        @With
         private Stats stats;
         private PitchHand pitchHand;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class BatSide {
         private String code;
         private String description;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class PitchHand {
         private String code;
         private String description;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class Stats {
         private Batting batting;
         private Pitching pitching;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class Batting {
         private double avg;
         private int homeRuns;
         private int rbi;
     }
 
-    @Data
+    @Value
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
     public static class Pitching {
         private double era;
         private int wins;
@@ -1,16 +1,21 @@
 package com.mlb.core.entities;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
-import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.*;
@@ -19,17 +24,52 @@ import java.util.concurrent.*;
 @Slf4j
 @Service
 public class MLBGameService {
-    private final RestTemplate restTemplate;
+    private static final Duration PREDICTION_TIMEOUT = Duration.ofSeconds(60);
+
+    private final FeedSource feedSource;
     private final ObjectMapper objectMapper;
-    private static final String MLB_API_BASE_URL = "https://statsapi.mlb.com/api/v1.1/game/";
-    private final PersonalMlbCommentator personalMlbCommentator;
+    private final WinExpectancyTables winExpectancyTables;
+    private final GameRepository gameRepository;
+    private final CatchUpSummarizer catchUpSummarizer;
+    private final SharedCommentary sharedCommentary;
+    private final PredictionOverlay predictionOverlay;
+    private final GumboDataService gumboDataService;
+    private final LiveViewerRegistry viewers;
+    private final EventLagTracker lagTracker;
+    private final ObjectMapper deltaObjectMapper;
+    private final int deltaKeyframeInterval;
+    private final Duration playInterval;
+    private final int prefetchPlays;
 
 
     @Autowired
-    public MLBGameService(RestTemplate restTemplate, ObjectMapper objectMapper, PersonalMlbCommentator personalMlbCommentator) {
-        this.restTemplate = restTemplate;
+    public MLBGameService(FeedSource feedSource, ObjectMapper objectMapper,
+                          WinExpectancyTables winExpectancyTables, GameRepository gameRepository,
+                          CatchUpSummarizer catchUpSummarizer, GumboDataService gumboDataService,
+                          SharedCommentary sharedCommentary, PredictionOverlay predictionOverlay,
+                          LiveViewerRegistry viewers, EventLagTracker lagTracker,
+                          @Value("${mlb.stream.delta.keyframe-interval:20}") int deltaKeyframeInterval,
+                          @Value("${mlb.replay.play-interval:1m}") Duration playInterval,
+                          @Value("${mlb.replay.prefetch.max-plays:8}") int prefetchBudget) {
+        this.feedSource = feedSource;
         this.objectMapper = objectMapper;
-        this.personalMlbCommentator = personalMlbCommentator;
+        this.winExpectancyTables = winExpectancyTables;
+        this.gameRepository = gameRepository;
+        this.catchUpSummarizer = catchUpSummarizer;
+        this.sharedCommentary = sharedCommentary;
+        this.predictionOverlay = predictionOverlay;
+        this.gumboDataService = gumboDataService;
+        this.viewers = viewers;
+        this.lagTracker = lagTracker;
+        this.deltaKeyframeInterval = deltaKeyframeInterval;
+        this.playInterval = playInterval;
+        // Enough look-ahead to hide model latency, but nothing that would sit in the queue past its max age
+        long playsWithinMaxAge = CommentaryPriority.REPLAY.getDefaultMaxAge().toMillis() / Math.max(1, playInterval.toMillis());
+        this.prefetchPlays = (int) Math.max(1, Math.min(prefetchBudget, playsWithinMaxAge));
+        // Delta frames are about saving bytes, so never write null fields
+        this.deltaObjectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // Predictions survive restarts
+        this.userPredictions.putAll(gameRepository.findAllPredictions());
     }
 
 
@@ -40,15 +80,43 @@ public class MLBGameService {
         private UserPrediction userPrediction;
     }
 
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class GameEventDelta {
+        private long seq;
+        private boolean keyframe;
+        private MLBGameEvent event;
+        private LiveGameStatus status;
+        private Map<String, Object> statusDelta;
+        private UserPrediction userPrediction;
+    }
+
 
+    /**
+     * A replay in progress, addressed by user and game so it can be seeked.
+     */
+    private static class ReplayStream {
+        private final Sinks.Many<Integer> seeks = Sinks.many().multicast().directBestEffort();
+        private volatile boolean closed;
+
+        private void close() {
+            closed = true;
+            seeks.tryEmitComplete();
+        }
+    }
+
+    private final Map<String, ReplayStream> replays = new ConcurrentHashMap<>();
     private final Map<String, UserPrediction> userPredictions = new ConcurrentHashMap<>();
     private final Map<String, CompletableFuture<UserPrediction>> pendingPredictions = new ConcurrentHashMap<>();
 
-    public void saveUserPrediction(String userId, String gameId, String predictionText) {
-        String key = userId + "-" + gameId;
+    public Mono<Void> saveUserPrediction(String userId, String gameId, String predictionText) {
+        return getCurrentPlayIndex(gameId)
+                .doOnNext(currentPlayIndex -> saveUserPrediction(userId, gameId, predictionText, currentPlayIndex))
+                .then();
+    }
 
-        // Get current play index
-        int currentPlayIndex = getCurrentPlayIndex(gameId);
+    private void saveUserPrediction(String userId, String gameId, String predictionText, int currentPlayIndex) {
+        String key = userId + "-" + gameId;
 
         UserPrediction prediction = new UserPrediction();
         prediction.setPrediction(predictionText);
@@ -57,6 +125,7 @@ public class MLBGameService {
 
         // Update the prediction in the map
         userPredictions.put(key, prediction);
+        gameRepository.savePrediction(userId, gameId, prediction);
         log.info("New prediction saved for user {} at play index {}: {}", userId, currentPlayIndex, predictionText);
 
         // Complete the future if it exists (for initial prediction)
@@ -66,129 +135,257 @@ public class MLBGameService {
         }
     }
 
-    private void processPlay(
-            MLBGameFeed.PlayEvent play,
-            MLBGameFeed gameFeed,
-            String userId,
-            String gameId,
-            int awayScore,
-            int homeScore,
-            SseEmitter emitter) throws IOException {
+    /**
+     * Moves a running replay to the play with {@code atBatIndex}. False when the user has no replay of the game.
+     */
+    public boolean seek(String userId, String gameId, int atBatIndex) {
+        ReplayStream replay = replays.get(userId + "-" + gameId);
+        return replay != null && !replay.closed && replay.seeks.tryEmitNext(atBatIndex).isSuccess();
+    }
 
-        try {
-            // Get the latest prediction for this user
+    /**
+     * Replay of a game for one user, or with {@code catchUp} a summary followed by the live plays. Nothing
+     * blocks a thread while the stream waits for a prediction, commentary or the next play.
+     */
+    public Flux<ServerSentEvent<String>> streamGame(String gameId, String userId, boolean delta, boolean catchUp) {
+        if (catchUp) {
+            return streamFromHead(gameId, userId, delta);
+        }
+        return Flux.defer(() -> {
             String key = userId + "-" + gameId;
-            UserPrediction currentPrediction = userPredictions.get(key);
-
-            Map<String, Object> context = createEnhancedContext(
-                    gameFeed, play, currentPrediction, awayScore, homeScore);
-
-            String chat = personalMlbCommentator.chat("riaz",
-                    objectMapper.writeValueAsString(context));
-
-            MLBGameEvent event = convertToGameEvent(play);
-            event.setDescription(chat);
-            event.setHomeScore(homeScore);
-            event.setAwayScore(awayScore);
-
-            LiveGameStatus status = createLiveGameStatus(gameFeed, play, awayScore, homeScore);
-
-            GameEventWithStatus eventWithStatus = new GameEventWithStatus();
-            eventWithStatus.setEvent(event);
-            eventWithStatus.setStatus(status);
-            eventWithStatus.setUserPrediction(currentPrediction);
+            UserPrediction prediction = userPredictions.get(key);
+            if (prediction != null) {
+                return streamGameWithPrediction(gameId, userId, prediction, delta);
+            }
 
-            sendEventToClient(emitter, eventWithStatus);
-        } catch (Exception e) {
-            log.error("Error processing play: ", e);
-        }
+            CompletableFuture<UserPrediction> predictionFuture = new CompletableFuture<>();
+            pendingPredictions.put(key, predictionFuture);
+            Mono<Optional<UserPrediction>> firstPrediction = Mono.fromFuture(predictionFuture)
+                    .map(Optional::of)
+                    .timeout(PREDICTION_TIMEOUT, Mono.fromSupplier(() -> {
+                        log.warn("No prediction received within timeout for user {} game {}", userId, gameId);
+                        return Optional.<UserPrediction>empty();
+                    }))
+                    .doFinally(signal -> pendingPredictions.remove(key, predictionFuture));
+            return Flux.concat(
+                    Mono.just(event("request_prediction", "Please make your prediction for the game")),
+                    firstPrediction.flatMapMany(initial ->
+                            streamGameWithPrediction(gameId, userId, initial.orElse(null), delta)));
+        });
     }
 
-    private void streamGameWithPrediction(String gameId, String userId, UserPrediction initialPrediction, SseEmitter emitter) {
-        try {
-            String url = MLB_API_BASE_URL + gameId + "/feed/live";
-            MLBGameFeed gameFeed = restTemplate.getForObject(url, MLBGameFeed.class);
-
-            if (gameFeed == null || gameFeed.getLiveData() == null) {
-                emitter.completeWithError(new RuntimeException("Unable to fetch game data"));
-                return;
-            }
-
+    private Flux<ServerSentEvent<String>> streamGameWithPrediction(String gameId, String userId,
+                                                                   UserPrediction initialPrediction, boolean delta) {
+        return fetchFeed(gameId).flatMapMany(gameFeed -> {
+            String key = userId + "-" + gameId;
             // Store initial prediction
             if (initialPrediction != null) {
-                String key = userId + "-" + gameId;
                 userPredictions.put(key, initialPrediction);
             }
 
-            sendGameMetadata(emitter, gameFeed, initialPrediction);
-
-            int[] scores = new int[2];  // [homeScore, awayScore]
             List<MLBGameFeed.PlayEvent> plays = gameFeed.getLiveData().getPlays().getAllPlays();
+            LiveStatusDeltaEncoder deltaEncoder = delta ? new LiveStatusDeltaEncoder(deltaKeyframeInterval) : null;
+            ReplayCommentaryPrefetcher prefetcher = new ReplayCommentaryPrefetcher(plays, winExpectancyTables,
+                    prefetchPlays, (play, engineContext, awayScore, homeScore) ->
+                            sharedCommentary.narrative(gameId, play, () -> {
+                                Map<String, Object> context = createEnhancedContext(
+                                        gameFeed, play, null, awayScore, homeScore);
+                                context.putAll(engineContext);
+                                return context;
+                            }, CommentaryPriority.REPLAY, awayScore, homeScore));
+
+            ReplayStream replay = new ReplayStream();
+            replays.put(key, replay);
+            // Every seek restarts the replay from its play; the empty frame marks the end of the game
+            Flux<ServerSentEvent<String>> frames = replay.seeks.asFlux()
+                    .map(atBatIndex -> indexOfAtBat(plays, atBatIndex))
+                    .startWith(0)
+                    .switchMap(start -> replayFrom(gameFeed, plays, start, userId, gameId, prefetcher)
+                            .map(Optional::of)
+                            .concatWith(Mono.just(Optional.<GameEventWithStatus>empty())))
+                    .takeWhile(Optional::isPresent)
+                    .map(frame -> playFrame(gameId, userId, frame.get(), deltaEncoder));
+
+            return Flux.concat(
+                            Mono.fromCallable(() -> metadataEvent(gameFeed, initialPrediction)),
+                            frames,
+                            Mono.just(event("complete", "Game replay completed")))
+                    .doFinally(signal -> {
+                        replay.close();
+                        prefetcher.close();
+                        replays.remove(key, replay);
+                    });
+        });
+    }
 
-            for (MLBGameFeed.PlayEvent play : plays) {
-                updateScores(play, scores);
-                processPlay(play, gameFeed, userId, gameId, scores[1], scores[0], emitter);
-                TimeUnit.MINUTES.sleep(1);
+    /**
+     * Plays from {@code plays[start]} on, one per play interval.
+     */
+    private Flux<GameEventWithStatus> replayFrom(MLBGameFeed gameFeed, List<MLBGameFeed.PlayEvent> plays, int start,
+                                                 String userId, String gameId, ReplayCommentaryPrefetcher prefetcher) {
+        return Flux.defer(() -> {
+            prefetcher.seek(start);
+            GameStateEngine stateEngine = new GameStateEngine(winExpectancyTables);
+            int[] scores = new int[2];  // [homeScore, awayScore]
+            for (int i = 0; i < start; i++) {
+                updateScores(plays.get(i), scores);
+                stateEngine.apply(plays.get(i));
             }
+            return Flux.range(start, plays.size() - start)
+                    .concatMap(index -> processPlay(index, plays.get(index), gameFeed, userId, gameId, scores,
+                                    stateEngine, prefetcher)
+                            .concatWith(Mono.delay(playInterval).then(Mono.<GameEventWithStatus>empty())));
+        });
+    }
 
-            emitter.send(SseEmitter.event()
-                    .name("complete")
-                    .data("Game replay completed"));
-            emitter.complete();
+    private Mono<GameEventWithStatus> processPlay(
+            int playIndex,
+            MLBGameFeed.PlayEvent play,
+            MLBGameFeed gameFeed,
+            String userId,
+            String gameId,
+            int[] scores,
+            GameStateEngine stateEngine,
+            ReplayCommentaryPrefetcher prefetcher) {
 
-        } catch (Exception e) {
-            log.error("Error streaming game: ", e);
-            emitter.completeWithError(e);
-        }
-    }
+        return Mono.defer(() -> {
+            long ingestedAt = System.currentTimeMillis();
 
-    @Async
-    public void streamGame(String gameId, String userId, SseEmitter emitter) {
-        try {
-            UserPrediction prediction = userPredictions.get(userId + "-" + gameId);
+            // Get the latest prediction for this user
+            String key = userId + "-" + gameId;
+            UserPrediction currentPrediction = userPredictions.get(key);
 
-            if (prediction == null) {
-                CompletableFuture<UserPrediction> predictionFuture = new CompletableFuture<>();
-                pendingPredictions.put(userId + "-" + gameId, predictionFuture);
-
-                emitter.send(SseEmitter.event()
-                        .name("request_prediction")
-                        .data("Please make your prediction for the game"));
-
-                try {
-                    prediction = predictionFuture.get(60, TimeUnit.SECONDS);
-                } catch (TimeoutException e) {
-                    log.warn("No prediction received within timeout for user {} game {}", userId, gameId);
-                } catch (InterruptedException | ExecutionException e) {
-                    log.error("Error waiting for prediction", e);
-                    emitter.completeWithError(e);
-                    return;
-                } finally {
-                    pendingPredictions.remove(userId + "-" + gameId);
-                }
-            }
+            updateScores(play, scores);
+            int homeScore = scores[0];
+            int awayScore = scores[1];
+            stateEngine.apply(play);
+            // Usually generated while the previous play was on screen
+            CompletableFuture<String> commentary = prefetcher.take(playIndex);
+            CompletableFuture<String> feedback = predictionOverlay.overlay(gameId, userId,
+                    PredictionOverlay.Outcome.of(play), currentPrediction, CommentaryPriority.REPLAY);
+
+            return Mono.fromFuture(commentary.thenCombine(feedback, (chat, predictionFeedback) -> {
+                MLBGameEvent event = convertToGameEvent(play);
+                event.setIngestedAt(ingestedAt);
+                event.setAtBatIndex(play.getAbout().getAtBatIndex());
+                event.setDescription(chat);
+                event.setPredictionFeedback(predictionFeedback);
+                event.setHomeScore(homeScore);
+                event.setAwayScore(awayScore);
+
+                LiveGameStatus status = createLiveGameStatus(gameFeed, play, awayScore, homeScore);
+                stateEngine.applyTo(status);
+
+                GameEventWithStatus eventWithStatus = new GameEventWithStatus();
+                eventWithStatus.setEvent(event);
+                eventWithStatus.setStatus(status);
+                eventWithStatus.setUserPrediction(currentPrediction);
+                return eventWithStatus;
+            }));
+        }).onErrorResume(e -> {
+            log.error("Error processing play: ", e);
+            return Mono.empty();
+        });
+    }
 
-            streamGameWithPrediction(gameId, userId, prediction, emitter);
-        } catch (Exception e) {
-            emitter.completeWithError(e);
+    private int indexOfAtBat(List<MLBGameFeed.PlayEvent> plays, int atBatIndex) {
+        for (int i = 0; i < plays.size(); i++) {
+            if (plays.get(i).getAbout().getAtBatIndex() >= atBatIndex) {
+                return i;
+            }
         }
+        return plays.size();
     }
 
+    /**
+     * Catch-up mode: one summary of every play so far, then the live stream from the head. Viewers are not
+     * held back by the prediction prompt, a prediction can be posted at any time.
+     */
+    private Flux<ServerSentEvent<String>> streamFromHead(String gameId, String userId, boolean delta) {
+        return fetchFeed(gameId).flatMapMany(gameFeed -> {
+            UserPrediction prediction = userPredictions.get(userId + "-" + gameId);
+            Flux<ServerSentEvent<String>> intro = Flux.concat(
+                    Mono.fromCallable(() -> metadataEvent(gameFeed, prediction)),
+                    prediction == null
+                            ? Mono.just(event("request_prediction", "Please make your prediction for the game"))
+                            : Mono.<ServerSentEvent<String>>empty());
+
+            boolean gameOver = gameFeed.getGameData().getStatus() != null
+                    && "Final".equals(gameFeed.getGameData().getStatus().getAbstractGameState());
+            Flux<ServerSentEvent<String>> rest = catchUpSummarizer.summarize(gameId, gameFeed, gameOver)
+                    .flatMapMany(summary -> {
+                        ServerSentEvent<String> catchUp = event(objectMapper, "catchup", summary);
+                        if (gameOver) {
+                            return Flux.just(catchUp, event("complete", "Game replay completed"));
+                        }
+                        int head = summary.getThroughAtBatIndex();
+                        LiveStatusDeltaEncoder deltaEncoder = delta ? new LiveStatusDeltaEncoder(deltaKeyframeInterval) : null;
+                        // Live viewers like those of /live-feed: listed, evictable and counted against the lag SLO
+                        Flux<MLBGameEvent> live = Flux.defer(() -> {
+                            LiveViewerRegistry.Viewer viewer = viewers.open(gameId);
+                            return gumboDataService.getLiveFeedStream(gameId, true)
+                                    .takeUntilOther(viewer.evicted())
+                                    .filter(event -> event.getAtBatIndex() > head)
+                                    .doOnNext(event -> {
+                                        lagTracker.delivered(gameId, event);
+                                        viewer.frameWritten(event);
+                                    })
+                                    .doFinally(signal -> viewers.close(viewer));
+                        });
+                        return Flux.just(catchUp).concatWith(live
+                                .flatMap(event -> liveFrames(gameFeed, event, gameId, userId, deltaEncoder)));
+                    });
+            return intro.concatWith(rest);
+        });
+    }
 
-    private int getCurrentPlayIndex(String gameId) {
-        try {
-            String url = MLB_API_BASE_URL + gameId + "/feed/live";
-            MLBGameFeed gameFeed = restTemplate.getForObject(url, MLBGameFeed.class);
+    /**
+     * The play frame of a live event, followed by the viewer's prediction feedback once it is ready.
+     */
+    private Flux<ServerSentEvent<String>> liveFrames(MLBGameFeed gameFeed, MLBGameEvent event, String gameId,
+                                                     String userId, LiveStatusDeltaEncoder deltaEncoder) {
+        UserPrediction currentPrediction = userPredictions.get(userId + "-" + gameId);
+        GameEventWithStatus eventWithStatus = new GameEventWithStatus();
+        eventWithStatus.setEvent(event);
+        eventWithStatus.setStatus(createLiveGameStatus(gameFeed, event));
+        eventWithStatus.setUserPrediction(currentPrediction);
+        ServerSentEvent<String> play = playFrame(gameId, userId, eventWithStatus, deltaEncoder);
+
+        // The live event is shared by all viewers, so their feedback follows as its own event,
+        // batched with everyone else's for this play when it needs the model
+        Mono<ServerSentEvent<String>> feedback = Mono.fromFuture(predictionOverlay.overlay(gameId, userId,
+                        PredictionOverlay.Outcome.of(event), currentPrediction, CommentaryPriority.LIVE_ROUTINE))
+                .map(text -> event(objectMapper, "prediction_feedback", Map.of(
+                        "atBatIndex", event.getAtBatIndex(),
+                        "predictionFeedback", text)));
+        return Flux.concat(Mono.just(play), feedback);
+    }
 
-            if (gameFeed != null && gameFeed.getLiveData() != null &&
-                    gameFeed.getLiveData().getPlays() != null) {
-                List<MLBGameFeed.PlayEvent> plays = gameFeed.getLiveData().getPlays().getAllPlays();
-                return plays.size() - 1;  // Current play index
-            }
-        } catch (Exception e) {
-            log.error("Error getting current play index", e);
+    private Mono<MLBGameFeed> fetchFeed(String gameId) {
+        return feedSource.getFeed(gameId, null)
+                .filter(gameFeed -> gameFeed.getLiveData() != null)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Unable to fetch game data")))
+                .doOnError(error -> log.error("Error streaming game {}: ", gameId, error));
+    }
+
+    /**
+     * Last play viewers of the game were sent when it has a live session on this node, otherwise the
+     * current play of the latest feed.
+     */
+    private Mono<Integer> getCurrentPlayIndex(String gameId) {
+        OptionalInt ingested = gumboDataService.getIngestedAtBatIndex(gameId);
+        if (ingested.isPresent()) {
+            return Mono.just(ingested.getAsInt());
         }
-        return 0;
+        return feedSource.getFeed(gameId, null)
+                .map(gameFeed -> gameFeed.getLiveData() != null && gameFeed.getLiveData().getPlays() != null
+                        ? gameFeed.getLiveData().getPlays().getAllPlays().size() - 1
+                        : 0)
+                .onErrorResume(error -> {
+                    log.error("Error getting current play index", error);
+                    return Mono.just(0);
+                })
+                .defaultIfEmpty(0);
     }
 
 
@@ -202,14 +399,31 @@ public class MLBGameService {
     }
 
 
-    private void sendEventToClient(SseEmitter emitter, GameEventWithStatus eventWithStatus) throws IOException {
+    /**
+     * Full or, with a delta encoder, compact frame of one play.
+     */
+    private ServerSentEvent<String> playFrame(String gameId, String userId, GameEventWithStatus eventWithStatus,
+                                              LiveStatusDeltaEncoder deltaEncoder) {
+        ServerSentEvent<String> frame = deltaEncoder != null
+                ? event(deltaObjectMapper, "play", deltaEncoder.encode(eventWithStatus.getEvent(),
+                        eventWithStatus.getStatus(), eventWithStatus.getUserPrediction()))
+                : event(objectMapper, "play", eventWithStatus);
+        PlayTraceEvents.frameEmitted(gameId, eventWithStatus.getEvent(), userId);
+        return frame;
+    }
+
+    private static ServerSentEvent<String> event(String name, String data) {
+        return ServerSentEvent.<String>builder()
+                .event(name)
+                .data(data)
+                .build();
+    }
+
+    private static ServerSentEvent<String> event(ObjectMapper mapper, String name, Object data) {
         try {
-            emitter.send(SseEmitter.event()
-                    .name("play")
-                    .data(objectMapper.writeValueAsString(eventWithStatus)));
-        } catch (Exception e) {
-            log.error("Error sending event to client: ", e);
-            throw e;
+            return event(name, mapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -247,7 +461,7 @@ public class MLBGameService {
         return context;
     }
 
-    private void sendGameMetadata(SseEmitter emitter, MLBGameFeed gameFeed, UserPrediction prediction) throws IOException {
+    private ServerSentEvent<String> metadataEvent(MLBGameFeed gameFeed, UserPrediction prediction) {
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("homeTeam", gameFeed.getGameData().getTeams().getHome().getName());
         metadata.put("awayTeam", gameFeed.getGameData().getTeams().getAway().getName());
@@ -255,10 +469,7 @@ public class MLBGameService {
         if (prediction != null) {
             metadata.put("userPrediction", prediction.getPrediction());
         }
-
-        emitter.send(SseEmitter.event()
-                .name("metadata")
-                .data(objectMapper.writeValueAsString(metadata)));
+        return event(objectMapper, "metadata", metadata);
     }
 
     private LiveGameStatus createLiveGameStatus(MLBGameFeed gameFeed, MLBGameFeed.PlayEvent currentPlay,
@@ -291,35 +502,45 @@ public class MLBGameService {
         // Set current pitcher info
         status.setCurrentPitcher(currentPlay.getMatchup().getPitcher().getFullName());
 
-        // Set pitch count from current play
+        // Set count and pitch count from current play
+        status.setBalls(currentPlay.getCount().getBalls());
+        status.setStrikes(currentPlay.getCount().getStrikes());
+        status.setOuts(currentPlay.getCount().getOuts());
         status.setPitchCount(currentPlay.getCount().getPitches());
 
         return status;
     }
 
 
-    public List<MLBGameEvent> fetch(String gameId) {
-        String url = MLB_API_BASE_URL + gameId + "/feed/live";
-        MLBGameFeed gameFeed = restTemplate.getForObject(url, MLBGameFeed.class);
-
-        if (gameFeed == null || gameFeed.getLiveData() == null ||
-                gameFeed.getLiveData().getPlays() == null ||
-                gameFeed.getLiveData().getPlays().getAllPlays() == null) {
-            throw new RuntimeException("Unable to fetch game data or game data is incomplete");
-        }
-
-        List<MLBGameEvent> events = new ArrayList<>();
+    /**
+     * Status for a live event; team names and records come from the feed the viewer joined on.
+     */
+    private LiveGameStatus createLiveGameStatus(MLBGameFeed gameFeed, MLBGameEvent event) {
+        LiveGameStatus status = new LiveGameStatus();
+        status.setInning(String.format("%s %dth", event.isTopInning() ? "Top" : "Bottom", event.getInning()));
 
-        // Convert API data to our event model
-        for (MLBGameFeed.PlayEvent play : gameFeed.getLiveData().getPlays().getAllPlays()) {
-            MLBGameEvent event = convertToGameEvent(play);
-            events.add(event);
-        }
+        TeamStatus awayTeam = new TeamStatus();
+        awayTeam.setName(gameFeed.getGameData().getTeams().getAway().getName());
+        awayTeam.setRecord(String.format("%d-%d",
+                gameFeed.getGameData().getTeams().getAway().getRecord().getWins(),
+                gameFeed.getGameData().getTeams().getAway().getRecord().getLosses()));
+        awayTeam.setScore(event.getAwayScore());
+        status.setAwayTeam(awayTeam);
 
-        // Replay events with simulated timing
-        replayEvents(events);
+        TeamStatus homeTeam = new TeamStatus();
+        homeTeam.setName(gameFeed.getGameData().getTeams().getHome().getName());
+        homeTeam.setRecord(String.format("%d-%d",
+                gameFeed.getGameData().getTeams().getHome().getRecord().getWins(),
+                gameFeed.getGameData().getTeams().getHome().getRecord().getLosses()));
+        homeTeam.setScore(event.getHomeScore());
+        status.setHomeTeam(homeTeam);
 
-        return events;
+        status.setCurrentPitcher(event.getPitcherName());
+        status.setBalls(event.getBalls());
+        status.setStrikes(event.getStrikes());
+        status.setOuts(event.getOuts());
+        status.setPitchCount(event.getPitchCount());
+        return status;
     }
 
     private MLBGameEvent convertToGameEvent(MLBGameFeed.PlayEvent play) {
@@ -334,29 +555,6 @@ public class MLBGameService {
         return event;
     }
 
-    private void replayEvents(List<MLBGameEvent> events) {
-        System.out.println("Starting game replay...\n");
-
-        for (MLBGameEvent event : events) {
-            String inningHalf = event.isTopInning() ? "Top" : "Bottom";
-
-            System.out.printf("Inning: %s %d\n", inningHalf, event.getInning());
-            System.out.printf("At bat: %s vs %s\n", event.getBatterName(), event.getPitcherName());
-            System.out.printf("Result: %s\n", event.getDescription());
-            System.out.println("----------------------------------------\n");
-
-            try {
-                // Add a delay between events to simulate real-time playback
-                TimeUnit.SECONDS.sleep(2);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
-
-        System.out.println("Game replay completed!");
-    }
-
     @Data
     public static class LiveGameStatus {
         private String type = "MLB • LIVE";
@@ -364,7 +562,13 @@ public class MLBGameService {
         private TeamStatus awayTeam;
         private TeamStatus homeTeam;
         private String currentPitcher;
+        private int balls;
+        private int strikes;
+        private int outs;
         private int pitchCount;
+        private Double runExpectancy;
+        private Double homeWinProbability;
+        private Double leverageIndex;
     }
 
     @Data
@@ -374,14 +578,11 @@ public class MLBGameService {
         private int score;
     }
 
-    public LiveGameStatus getLiveGameStatus(String gameId) {
-        String url = MLB_API_BASE_URL + gameId + "/feed/live";
-        MLBGameFeed gameFeed = restTemplate.getForObject(url, MLBGameFeed.class);
-
-        if (gameFeed == null || gameFeed.getLiveData() == null) {
-            throw new RuntimeException("Unable to fetch game data");
-        }
+    public Mono<LiveGameStatus> getLiveGameStatus(String gameId) {
+        return fetchFeed(gameId).map(this::createLiveGameStatus);
+    }
 
+    private LiveGameStatus createLiveGameStatus(MLBGameFeed gameFeed) {
         LiveGameStatus status = new LiveGameStatus();
 
         // Set current inning
@@ -416,9 +617,21 @@ public class MLBGameService {
         status.setCurrentPitcher(
                 currentPitcher.getFullName());
 
-        // Set pitch count
+        // Set count and pitch count
+        status.setBalls(currentPlay.getCount().getBalls());
+        status.setStrikes(currentPlay.getCount().getStrikes());
+        status.setOuts(currentPlay.getCount().getOuts());
         status.setPitchCount(currentPlay.getCount().getPitches());
 
+        // Replay the completed plays to get the current base/out state
+        GameStateEngine stateEngine = new GameStateEngine(winExpectancyTables);
+        for (MLBGameFeed.PlayEvent play : gameFeed.getLiveData().getPlays().getAllPlays()) {
+            if (play.getAbout().isComplete()) {
+                stateEngine.apply(play);
+            }
+        }
+        stateEngine.applyTo(status);
+
         return status;
     }
 }
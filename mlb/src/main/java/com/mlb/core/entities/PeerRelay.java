@@ -0,0 +1,86 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Receives the derived events of games owned by other nodes over their {@code /cluster} SSE endpoint.
+ * All viewers of a game on this node share one upstream connection.
+ */
+@Slf4j
+@Component
+public class PeerRelay {
+    private static final ParameterizedTypeReference<ServerSentEvent<MLBGameEvent>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final Duration BOX_SCORE_TIMEOUT = Duration.ofSeconds(2);
+
+    private final WebClient webClient;
+    private final Map<String, Flux<MLBGameEvent>> relays = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PeerRelay(WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.build();
+    }
+
+    /**
+     * Box score of a game from the owner's session, empty when the owner has none or can't be reached.
+     */
+    public Mono<BoxScore> boxScore(String ownerUrl, String gameId) {
+        return webClient.get()
+                .uri(ownerUrl + "/cluster/games/{gameId}/boxscore", gameId)
+                .retrieve()
+                .bodyToMono(BoxScore.class)
+                .timeout(BOX_SCORE_TIMEOUT)
+                .onErrorResume(error -> {
+                    if (!(error instanceof WebClientResponseException.NotFound)) {
+                        log.warn("Error fetching box score of game {} from {}: {}", gameId, ownerUrl, error.getMessage());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    public Flux<MLBGameEvent> stream(String ownerUrl, String gameId) {
+        return stream(ownerUrl, gameId, false);
+    }
+
+    /**
+     * With fromHead the owner starts a new session at the game's latest timecode. A relay already open is shared as is.
+     */
+    public Flux<MLBGameEvent> stream(String ownerUrl, String gameId, boolean fromHead) {
+        String key = ownerUrl + "/" + gameId;
+        return relays.computeIfAbsent(key, k -> relay(k, ownerUrl, gameId, fromHead));
+    }
+
+    private Flux<MLBGameEvent> relay(String key, String ownerUrl, String gameId, boolean fromHead) {
+        AtomicReference<Flux<MLBGameEvent>> self = new AtomicReference<>();
+        Flux<MLBGameEvent> relay = webClient.get()
+                .uri(ownerUrl + "/cluster/games/{gameId}/events?fromHead={fromHead}", gameId, fromHead)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .doOnSubscribe(subscription -> log.info("Relaying game {} from {}", gameId, ownerUrl))
+                // A restarting owner is retried until the ring moves the game elsewhere
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(10)))
+                // Only this relay: a newer one for the same game may already be registered
+                .doFinally(signal -> relays.remove(key, self.get()))
+                .publish()
+                .refCount();
+        self.set(relay);
+        return relay;
+    }
+}
@@ -0,0 +1,123 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Local store of archived plays: one binary file per game under {@code {dir}/{season}/{gamePk}.plays},
+ * plus a {@code checkpoint} file listing the games of a season that are fully written.
+ */
+@Slf4j
+@Component
+public class PlayArchive {
+    private static final int MAGIC = 0x504c5931; // "PLY1"
+    private static final String GAME_SUFFIX = ".plays";
+
+    private final Path directory;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    public PlayArchive(@Value("${mlb.archive.directory:archive}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    public void write(int season, long gamePk, List<PlayRecord> plays) throws IOException {
+        Path seasonDir = Files.createDirectories(directory.resolve(String.valueOf(season)));
+        Path temp = Files.createTempFile(seasonDir, String.valueOf(gamePk), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(plays.size());
+            for (PlayRecord play : plays) {
+                play.writeTo(out);
+            }
+        }
+        Files.move(temp, seasonDir.resolve(gamePk + GAME_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public List<PlayRecord> read(int season, long gamePk) throws IOException {
+        Path file = directory.resolve(String.valueOf(season)).resolve(gamePk + GAME_SUFFIX);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a play archive: " + file);
+            }
+            int count = in.readInt();
+            List<PlayRecord> plays = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                plays.add(PlayRecord.readFrom(gamePk, in));
+            }
+            return plays;
+        }
+    }
+
+    public List<Integer> listSeasons() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> seasons = Files.list(directory)) {
+            return seasons.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("\\d{4}"))
+                    .map(Integer::valueOf)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public List<Long> listGames(int season) throws IOException {
+        Path seasonDir = directory.resolve(String.valueOf(season));
+        if (!Files.isDirectory(seasonDir)) {
+            return List.of();
+        }
+        try (Stream<Path> games = Files.list(seasonDir)) {
+            return games.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(GAME_SUFFIX))
+                    .map(name -> Long.valueOf(name.substring(0, name.length() - GAME_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public Set<Long> completedGames(int season) throws IOException {
+        Path checkpoint = checkpointPath(season);
+        Set<Long> completed = new HashSet<>();
+        if (Files.exists(checkpoint)) {
+            for (String line : Files.readAllLines(checkpoint, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    completed.add(Long.valueOf(line.trim()));
+                }
+            }
+        }
+        return completed;
+    }
+
+    public void markCompleted(int season, long gamePk) throws IOException {
+        checkpointLock.lock();
+        try {
+            Files.writeString(checkpointPath(season), gamePk + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private Path checkpointPath(int season) {
+        return directory.resolve(String.valueOf(season)).resolve("checkpoint");
+    }
+}
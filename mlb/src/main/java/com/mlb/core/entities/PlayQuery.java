@@ -0,0 +1,19 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+/**
+ * Predicates of a {@code GET /plays/query} request; unset fields do not filter.
+ */
+@Data
+public class PlayQuery {
+    private Integer season;
+    private Integer batterId;
+    private Integer pitcherId;
+    private String eventType;
+    private Integer inning;
+    private Integer balls;
+    private Integer strikes;
+    private Boolean scoringPlay;
+    private int limit = 100;
+}
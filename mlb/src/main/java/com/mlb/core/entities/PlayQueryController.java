@@ -0,0 +1,21 @@
+package com.mlb.core.entities;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/plays")
+public class PlayQueryController {
+
+    private final PlayQueryIndex playQueryIndex;
+
+    @GetMapping("/query")
+    public ResponseEntity<PlayQueryResult> query(PlayQuery query) {
+        if (query.getLimit() <= 0 || query.getLimit() > 10_000) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(playQueryIndex.query(query));
+    }
+}
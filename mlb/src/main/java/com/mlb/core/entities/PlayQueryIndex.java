@@ -0,0 +1,204 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory query engine over the {@link PlayArchive}. Every indexed dimension maps a value to a
+ * compressed bitmap of row ids, so a query is an intersection of a few bitmaps instead of a scan.
+ * The index is rebuilt off the request path and swapped in atomically.
+ */
+@Slf4j
+@Service
+public class PlayQueryIndex {
+    private static final Set<String> HIT_EVENTS = Set.of("single", "double", "triple", "home_run");
+    private static final Set<String> STRIKEOUT_EVENTS = Set.of("strikeout", "strikeout_double_play");
+    private static final Set<String> WALK_EVENTS = Set.of("walk", "intent_walk", "hit_by_pitch");
+
+    private final PlayArchive playArchive;
+    private volatile Snapshot snapshot = new Snapshot();
+
+    private static class Snapshot {
+        private final List<PlayRecord> rows = new ArrayList<>();
+        private final Map<Integer, RoaringBitmap> bySeason = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byBatter = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byPitcher = new HashMap<>();
+        private final Map<String, RoaringBitmap> byEventType = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byInning = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byBalls = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byStrikes = new HashMap<>();
+        private final RoaringBitmap scoring = new RoaringBitmap();
+
+        private void add(int season, PlayRecord play) {
+            int row = rows.size();
+            rows.add(play);
+            bitmap(bySeason, season).add(row);
+            bitmap(byBatter, play.getBatterId()).add(row);
+            bitmap(byPitcher, play.getPitcherId()).add(row);
+            bitmap(byEventType, play.getEventType()).add(row);
+            bitmap(byInning, play.getInning()).add(row);
+            bitmap(byBalls, play.getBalls()).add(row);
+            bitmap(byStrikes, play.getStrikes()).add(row);
+            if (play.isScoringPlay()) {
+                scoring.add(row);
+            }
+        }
+
+        private void optimize() {
+            List.of(bySeason, byBatter, byPitcher, byInning, byBalls, byStrikes)
+                    .forEach(index -> index.values().forEach(RoaringBitmap::runOptimize));
+            byEventType.values().forEach(RoaringBitmap::runOptimize);
+            scoring.runOptimize();
+        }
+
+        private static <K> RoaringBitmap bitmap(Map<K, RoaringBitmap> index, K key) {
+            return index.computeIfAbsent(key, k -> new RoaringBitmap());
+        }
+    }
+
+    public PlayQueryIndex(PlayArchive playArchive) {
+        this.playArchive = playArchive;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from the archive in the background.
+     */
+    public void reload() {
+        Mono.fromRunnable(this::rebuild)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, error -> log.error("Error indexing play archive: ", error));
+    }
+
+    // Package-private so tests can index synchronously
+    void rebuild() {
+        long start = System.nanoTime();
+        Snapshot rebuilt = new Snapshot();
+        try {
+            for (int season : playArchive.listSeasons()) {
+                for (long gamePk : playArchive.listGames(season)) {
+                    for (PlayRecord play : playArchive.read(season, gamePk)) {
+                        rebuilt.add(season, play);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error reading play archive, keeping the current index: ", e);
+            return;
+        }
+        rebuilt.optimize();
+        snapshot = rebuilt;
+        log.info("Indexed {} archived plays in {} ms", rebuilt.rows.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public PlayQueryResult query(PlayQuery query) {
+        long start = System.nanoTime();
+        Snapshot current = snapshot;
+
+        List<RoaringBitmap> predicates = new ArrayList<>();
+        addPredicate(predicates, current.bySeason, query.getSeason());
+        addPredicate(predicates, current.byBatter, query.getBatterId());
+        addPredicate(predicates, current.byPitcher, query.getPitcherId());
+        addPredicate(predicates, current.byEventType, query.getEventType());
+        addPredicate(predicates, current.byInning, query.getInning());
+        addPredicate(predicates, current.byBalls, query.getBalls());
+        addPredicate(predicates, current.byStrikes, query.getStrikes());
+        if (query.getScoringPlay() != null) {
+            predicates.add(query.getScoringPlay()
+                    ? current.scoring
+                    : RoaringBitmap.andNot(all(current), current.scoring));
+        }
+
+        RoaringBitmap matches = intersect(predicates, current);
+        List<PlayRecord> plays = new ArrayList<>();
+        IntIterator rows = matches.getIntIterator();
+        while (rows.hasNext() && plays.size() < query.getLimit()) {
+            plays.add(current.rows.get(rows.next()));
+        }
+
+        PlayQueryResult result = new PlayQueryResult();
+        result.setTotal(matches.getLongCardinality());
+        result.setPlays(plays);
+        result.setTookMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * Career line of a batter against a pitcher across the archive, empty if they never met.
+     */
+    public Map<String, Object> matchupHistory(int batterId, int pitcherId) {
+        Snapshot current = snapshot;
+        RoaringBitmap batter = current.byBatter.get(batterId);
+        RoaringBitmap pitcher = current.byPitcher.get(pitcherId);
+        if (batter == null || pitcher == null) {
+            return Map.of();
+        }
+
+        int plateAppearances = 0, hits = 0, homeRuns = 0, strikeouts = 0, walks = 0;
+        IntIterator rows = RoaringBitmap.and(batter, pitcher).getIntIterator();
+        while (rows.hasNext()) {
+            String eventType = current.rows.get(rows.next()).getEventType();
+            plateAppearances++;
+            hits += HIT_EVENTS.contains(eventType) ? 1 : 0;
+            homeRuns += "home_run".equals(eventType) ? 1 : 0;
+            strikeouts += STRIKEOUT_EVENTS.contains(eventType) ? 1 : 0;
+            walks += WALK_EVENTS.contains(eventType) ? 1 : 0;
+        }
+        if (plateAppearances == 0) {
+            return Map.of();
+        }
+
+        Map<String, Object> history = new LinkedHashMap<>();
+        history.put("plateAppearances", plateAppearances);
+        history.put("hits", hits);
+        history.put("homeRuns", homeRuns);
+        history.put("strikeouts", strikeouts);
+        history.put("walks", walks);
+        return history;
+    }
+
+    private static <K> void addPredicate(List<RoaringBitmap> predicates, Map<K, RoaringBitmap> index, K value) {
+        if (value != null) {
+            predicates.add(index.getOrDefault(value, new RoaringBitmap()));
+        }
+    }
+
+    private static RoaringBitmap intersect(List<RoaringBitmap> predicates, Snapshot current) {
+        if (predicates.isEmpty()) {
+            return all(current);
+        }
+        // Start from the most selective bitmap so intermediate results stay small
+        predicates.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        RoaringBitmap result = predicates.get(0).clone();
+        for (int i = 1; i < predicates.size() && !result.isEmpty(); i++) {
+            result.and(predicates.get(i));
+        }
+        return result;
+    }
+
+    private static RoaringBitmap all(Snapshot current) {
+        RoaringBitmap all = new RoaringBitmap();
+        all.add(0L, current.rows.size());
+        return all;
+    }
+}
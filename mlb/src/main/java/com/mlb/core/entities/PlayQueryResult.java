@@ -0,0 +1,12 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PlayQueryResult {
+    private long total;
+    private List<PlayRecord> plays;
+    private long tookMicros;
+}
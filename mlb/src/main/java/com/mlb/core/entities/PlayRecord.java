@@ -0,0 +1,108 @@
+package com.mlb.core.entities;
+
+import lombok.Data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Compact archived form of one completed play, as stored by {@link PlayArchive}.
+ */
+@Data
+public class PlayRecord {
+    public static final int BASE_FIRST = 1;
+    public static final int BASE_SECOND = 2;
+    public static final int BASE_THIRD = 4;
+
+    private long gamePk;
+    private int atBatIndex;
+    private int inning;
+    private boolean topInning;
+    private int batterId;
+    private int pitcherId;
+    private String eventType;
+    private int balls;
+    private int strikes;
+    private int outs;
+    // Bitmask of occupied bases after the play (BASE_FIRST | BASE_SECOND | BASE_THIRD)
+    private int bases;
+    private int awayScore;
+    private int homeScore;
+    private int rbi;
+    private boolean scoringPlay;
+    private long endTime;
+
+    public static PlayRecord of(long gamePk, MLBGameFeed.PlayEvent play) {
+        PlayRecord record = new PlayRecord();
+        record.setGamePk(gamePk);
+        record.setAtBatIndex(play.getAbout().getAtBatIndex());
+        record.setInning(play.getAbout().getInning());
+        record.setTopInning("top".equalsIgnoreCase(play.getAbout().getHalfInning()));
+        record.setScoringPlay(play.getAbout().isScoringPlay());
+        if (play.getAbout().getEndTime() != null) {
+            record.setEndTime(Instant.parse(play.getAbout().getEndTime()).toEpochMilli());
+        }
+
+        MLBGameFeed.Matchup matchup = play.getMatchup();
+        if (matchup != null) {
+            record.setBatterId(matchup.getBatter() != null ? matchup.getBatter().getId() : 0);
+            record.setPitcherId(matchup.getPitcher() != null ? matchup.getPitcher().getId() : 0);
+            record.setBases((matchup.getPostOnFirst() != null ? BASE_FIRST : 0)
+                    | (matchup.getPostOnSecond() != null ? BASE_SECOND : 0)
+                    | (matchup.getPostOnThird() != null ? BASE_THIRD : 0));
+        }
+        if (play.getCount() != null) {
+            record.setBalls(play.getCount().getBalls());
+            record.setStrikes(play.getCount().getStrikes());
+            record.setOuts(play.getCount().getOuts());
+        }
+
+        MLBGameFeed.Result result = play.getResult();
+        record.setEventType(result.getEventType() != null ? result.getEventType() : "");
+        record.setAwayScore(result.getAwayScore() != null ? result.getAwayScore() : 0);
+        record.setHomeScore(result.getHomeScore() != null ? result.getHomeScore() : 0);
+        record.setRbi(result.getRbi());
+        return record;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeShort(atBatIndex);
+        out.writeByte(inning);
+        out.writeByte((topInning ? 1 : 0) | (scoringPlay ? 2 : 0));
+        out.writeInt(batterId);
+        out.writeInt(pitcherId);
+        out.writeUTF(eventType);
+        out.writeByte(balls);
+        out.writeByte(strikes);
+        out.writeByte(outs);
+        out.writeByte(bases);
+        out.writeShort(awayScore);
+        out.writeShort(homeScore);
+        out.writeByte(rbi);
+        out.writeLong(endTime);
+    }
+
+    static PlayRecord readFrom(long gamePk, DataInput in) throws IOException {
+        PlayRecord record = new PlayRecord();
+        record.setGamePk(gamePk);
+        record.setAtBatIndex(in.readUnsignedShort());
+        record.setInning(in.readUnsignedByte());
+        int flags = in.readUnsignedByte();
+        record.setTopInning((flags & 1) != 0);
+        record.setScoringPlay((flags & 2) != 0);
+        record.setBatterId(in.readInt());
+        record.setPitcherId(in.readInt());
+        record.setEventType(in.readUTF().intern());
+        record.setBalls(in.readUnsignedByte());
+        record.setStrikes(in.readUnsignedByte());
+        record.setOuts(in.readUnsignedByte());
+        record.setBases(in.readUnsignedByte());
+        record.setAwayScore(in.readUnsignedShort());
+        record.setHomeScore(in.readUnsignedShort());
+        record.setRbi(in.readUnsignedByte());
+        record.setEndTime(in.readLong());
+        return record;
+    }
+}
@@ -0,0 +1,123 @@
+package com.mlb.core.entities;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * JDK Flight Recorder events for each stage of a play's life, all carrying {@code gamePk}, {@code atBatIndex}
+ * and timecode so a single slow play can be followed end to end. Events only cost anything while a
+ * recording that enables them is running (see {@link FlightRecorderEndpoint}).
+ */
+public final class PlayTraceEvents {
+
+    public static final List<Class<? extends Event>> ALL = List.of(
+            TimecodesFetched.class, FeedParsed.class, PlayDerived.class, Commentary.class, FrameEmitted.class);
+
+    private PlayTraceEvents() {
+    }
+
+    @Name("com.mlb.TimecodesFetched")
+    @Label("Timecodes Fetched")
+    @Category({"MLB", "Play Pipeline"})
+    @StackTrace(false)
+    public static class TimecodesFetched extends Event {
+        @Label("Game PK")
+        public String gamePk;
+        @Label("At Bat Index")
+        public int atBatIndex = -1;
+        @Label("Latest Timecode")
+        public String timecode;
+        @Label("Timecodes")
+        public int timecodes;
+    }
+
+    @Name("com.mlb.FeedParsed")
+    @Label("Feed Fetched And Parsed")
+    @Category({"MLB", "Play Pipeline"})
+    @StackTrace(false)
+    public static class FeedParsed extends Event {
+        @Label("Game PK")
+        public String gamePk;
+        @Label("At Bat Index")
+        @Description("Latest play in the feed")
+        public int atBatIndex = -1;
+        @Label("Timecode")
+        public String timecode;
+        @Label("Plays")
+        public int plays;
+    }
+
+    @Name("com.mlb.PlayDerived")
+    @Label("Play Event Derived")
+    @Category({"MLB", "Play Pipeline"})
+    @StackTrace(false)
+    public static class PlayDerived extends Event {
+        @Label("Game PK")
+        public String gamePk;
+        @Label("At Bat Index")
+        public int atBatIndex;
+        @Label("Timecode")
+        public String timecode;
+        @Label("Event Type")
+        public String eventType;
+    }
+
+    @Name("com.mlb.Commentary")
+    @Label("Commentary")
+    @Description("From the commentary request to its result")
+    @Category({"MLB", "Play Pipeline"})
+    @StackTrace(false)
+    public static class Commentary extends Event {
+        @Label("Game PK")
+        public String gamePk;
+        @Label("At Bat Index")
+        public int atBatIndex;
+        @Label("Timecode")
+        public String timecode;
+        @Label("Priority")
+        public String priority;
+        @Label("Outcome")
+        @Description("returned, or timeout or error when the template was used instead")
+        public String outcome;
+        @Label("Tier")
+        @Description("MODEL or TEMPLATE, where the commentary actually came from")
+        public String tier;
+    }
+
+    @Name("com.mlb.FrameEmitted")
+    @Label("SSE Frame Emitted")
+    @Description("Frame handed to the response; the write to the connection happens after this event")
+    @Category({"MLB", "Play Pipeline"})
+    @StackTrace(false)
+    public static class FrameEmitted extends Event {
+        @Label("Game PK")
+        public String gamePk;
+        @Label("At Bat Index")
+        public int atBatIndex;
+        @Label("Timecode")
+        public String timecode;
+        @Label("Connection")
+        public String connection;
+        @Label("Delivery Latency (ms)")
+        @Description("Since the play was ingested")
+        public long latencyMillis;
+    }
+
+    public static void frameEmitted(String gamePk, MLBGameEvent event, String connection) {
+        FrameEmitted frame = new FrameEmitted();
+        if (frame.shouldCommit()) {
+            frame.gamePk = gamePk;
+            frame.atBatIndex = event.getAtBatIndex();
+            frame.timecode = event.getTimestamp();
+            frame.connection = connection;
+            frame.latencyMillis = event.getIngestedAt() > 0 ? System.currentTimeMillis() - event.getIngestedAt() : -1;
+            frame.commit();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Process-wide registry of players keyed by MLB person id. Feeds are parsed through {@link #jacksonModule()},
+ * so every feed, replay and event refers to one canonical {@link MLBGameFeed.Batter}/{@link MLBGameFeed.Pitcher}
+ * per player and one instance per handedness value instead of fresh copies. Canonical instances are shared
+ * and must be treated as immutable; season stats are refreshed in batches by swapping in new instances.
+ * Stats are those of the season of the feed a player was last parsed from ({@code gameData.game.season},
+ * else the year of {@code metaData.timeStamp}), so replays of archived games show that season's numbers.
+ */
+@Slf4j
+@Component
+public class PlayerRegistry {
+
+    // Deserialization attribute holding the season of the feed being parsed
+    private static final String SEASON = "playerRegistry.season";
+    // Failed batches before their players are left alone until the next refresh interval
+    private static final int MAX_BATCH_ATTEMPTS = 5;
+
+    // Feed sources parse through this registry, so the one fetching stats is looked up when first used
+    private final ObjectProvider<FeedSource> feedSource;
+    private final MeterRegistry meterRegistry;
+    private final boolean statsEnabled;
+    private final int statsBatchSize;
+    private final Duration statsBatchInterval;
+    private final Duration statsRefreshInterval;
+
+    private final Map<Integer, MLBGameFeed.Batter> batters = new ConcurrentHashMap<>();
+    private final Map<Integer, MLBGameFeed.Pitcher> pitchers = new ConcurrentHashMap<>();
+    // Stats per player and season, see statsKey
+    private final Map<Long, MLBGameFeed.Stats> seasonStats = new ConcurrentHashMap<>();
+    // Season whose stats the canonical record of a player carries
+    private final Map<Integer, Integer> statsSeasons = new ConcurrentHashMap<>();
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final Map<String, MLBGameFeed.BatSide> batSides = new ConcurrentHashMap<>();
+    private final Map<String, MLBGameFeed.PitchHand> pitchHands = new ConcurrentHashMap<>();
+    private final Map<String, MLBGameFeed.Linescore.Hand> hands = new ConcurrentHashMap<>();
+    // Player seasons whose stats are missing or due for a refresh, with the number of failed attempts
+    private final Map<Long, AtomicInteger> staleStats = new ConcurrentHashMap<>();
+    // Exponential backoff after failed batches, reset by the first successful one
+    private volatile int failedBatches;
+    private volatile long nextBatchAt = System.nanoTime();
+    private final CacheStats playerCache = new CacheStats();
+    private Disposable statsRefresh;
+
+    @Autowired
+    public PlayerRegistry(ObjectProvider<FeedSource> feedSource, MeterRegistry meterRegistry,
+                          @Value("${mlb.players.stats-enabled:true}") boolean statsEnabled,
+                          @Value("${mlb.players.stats-batch-size:100}") int statsBatchSize,
+                          @Value("${mlb.players.stats-batch-interval:5s}") Duration statsBatchInterval,
+                          @Value("${mlb.players.stats-refresh-interval:30m}") Duration statsRefreshInterval) {
+        this.feedSource = feedSource;
+        this.meterRegistry = meterRegistry;
+        this.statsEnabled = statsEnabled;
+        this.statsBatchSize = statsBatchSize;
+        this.statsBatchInterval = statsBatchInterval;
+        this.statsRefreshInterval = statsRefreshInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("mlb.players.registered", () -> batters.size() + pitchers.size())
+                .description("Canonical player records held by the registry")
+                .register(meterRegistry);
+        if (!statsEnabled) {
+            return;
+        }
+        Disposable batches = Flux.interval(statsBatchInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refreshStatsBatch()
+                        .onErrorResume(error -> {
+                            log.warn("Error refreshing player stats: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        Disposable expiry = Flux.interval(statsRefreshInterval)
+                .subscribe(tick -> statsSeasons.forEach((id, season) ->
+                        staleStats.putIfAbsent(statsKey(id, season), new AtomicInteger())));
+        statsRefresh = Disposables.composite(batches, expiry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (statsRefresh != null) {
+            statsRefresh.dispose();
+        }
+    }
+
+    /**
+     * Jackson module that swaps parsed players and handedness values for their canonical instances.
+     */
+    public Module jacksonModule() {
+        SimpleModule module = new SimpleModule("PlayerRegistry");
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription description,
+                                                          JsonDeserializer<?> deserializer) {
+                Class<?> type = description.getBeanClass();
+                // metaData and gameData come before liveData in GUMBO documents, so the season is known
+                // by the time the players of the plays are parsed
+                if (type == MLBGameFeed.MetaData.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> {
+                        String timeStamp = ((MLBGameFeed.MetaData) value).getTimeStamp();
+                        if (context.getAttribute(SEASON) == null && timeStamp != null && timeStamp.length() >= 4) {
+                            context.setAttribute(SEASON, parseSeason(timeStamp.substring(0, 4)));
+                        }
+                        return value;
+                    });
+                } else if (type == MLBGameFeed.Game.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> {
+                        Integer season = parseSeason(((MLBGameFeed.Game) value).getSeason());
+                        if (season != null) {
+                            context.setAttribute(SEASON, season);
+                        }
+                        return value;
+                    });
+                } else if (type == MLBGameFeed.Batter.class) {
+                    return new CanonicalDeserializer(deserializer,
+                            (value, context) -> batter((MLBGameFeed.Batter) value, season(context)));
+                } else if (type == MLBGameFeed.Pitcher.class) {
+                    return new CanonicalDeserializer(deserializer,
+                            (value, context) -> pitcher((MLBGameFeed.Pitcher) value, season(context)));
+                } else if (type == MLBGameFeed.BatSide.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> batSide((MLBGameFeed.BatSide) value));
+                } else if (type == MLBGameFeed.PitchHand.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> pitchHand((MLBGameFeed.PitchHand) value));
+                } else if (type == MLBGameFeed.Linescore.Hand.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> hand((MLBGameFeed.Linescore.Hand) value));
+                } else if (type == MLBGameFeed.Person.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> {
+                        MLBGameFeed.Person person = (MLBGameFeed.Person) value;
+                        person.setFullName(name(person.getFullName()));
+                        return person;
+                    });
+                } else if (type == MLBGameFeed.Linescore.Player.class) {
+                    return new CanonicalDeserializer(deserializer, (value, context) -> {
+                        MLBGameFeed.Linescore.Player player = (MLBGameFeed.Linescore.Player) value;
+                        player.setFullName(name(player.getFullName()));
+                        return player;
+                    });
+                }
+                return deserializer;
+            }
+        });
+        return module;
+    }
+
+    private static class CanonicalDeserializer extends DelegatingDeserializer {
+        private final BiFunction<Object, DeserializationContext, Object> canonical;
+
+        private CanonicalDeserializer(JsonDeserializer<?> delegate,
+                                      BiFunction<Object, DeserializationContext, Object> canonical) {
+            super(delegate);
+            this.canonical = canonical;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new CanonicalDeserializer(newDelegatee, canonical);
+        }
+
+        @Override
+        public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Object value = super.deserialize(parser, context);
+            return value == null ? null : canonical.apply(value, context);
+        }
+    }
+
+    public CacheStats getPlayerCacheStats() {
+        return playerCache;
+    }
+
+    public MLBGameFeed.Batter getBatter(int id) {
+        return batters.get(id);
+    }
+
+    public MLBGameFeed.Pitcher getPitcher(int id) {
+        return pitchers.get(id);
+    }
+
+    MLBGameFeed.Batter batter(MLBGameFeed.Batter parsed, int season) {
+        if (parsed.getId() == 0) {
+            return parsed;
+        }
+        MLBGameFeed.Batter current = batters.get(parsed.getId());
+        if (current != null && Objects.equals(current.getFullName(), parsed.getFullName())
+                && (parsed.getBatSide() == null || parsed.getBatSide() == current.getBatSide())
+                && Objects.equals(statsSeasons.get(parsed.getId()), season)) {
+            playerCache.hit();
+            return current;
+        }
+        playerCache.miss();
+        // First sighting (or a changed name/side/season): a new canonical record replaces the old one
+        MLBGameFeed.Batter batter = new MLBGameFeed.Batter(parsed.getId(), name(parsed.getFullName()),
+                statsFor(parsed.getId(), season), parsed.getBatSide());
+        batters.put(batter.getId(), batter);
+        return batter;
+    }
+
+    MLBGameFeed.Pitcher pitcher(MLBGameFeed.Pitcher parsed, int season) {
+        if (parsed.getId() == 0) {
+            return parsed;
+        }
+        MLBGameFeed.Pitcher current = pitchers.get(parsed.getId());
+        if (current != null && Objects.equals(current.getFullName(), parsed.getFullName())
+                && (parsed.getPitchHand() == null || parsed.getPitchHand() == current.getPitchHand())
+                && Objects.equals(statsSeasons.get(parsed.getId()), season)) {
+            playerCache.hit();
+            return current;
+        }
+        playerCache.miss();
+        MLBGameFeed.Pitcher pitcher = new MLBGameFeed.Pitcher(parsed.getId(), name(parsed.getFullName()),
+                statsFor(parsed.getId(), season), parsed.getPitchHand());
+        pitchers.put(pitcher.getId(), pitcher);
+        return pitcher;
+    }
+
+    /**
+     * Known stats of a player for a season, queueing them for the next batch when missing.
+     */
+    private MLBGameFeed.Stats statsFor(int id, int season) {
+        statsSeasons.put(id, season);
+        MLBGameFeed.Stats stats = seasonStats.get(statsKey(id, season));
+        if (stats == null) {
+            staleStats.putIfAbsent(statsKey(id, season), new AtomicInteger());
+        }
+        return stats;
+    }
+
+    private static long statsKey(int id, int season) {
+        return ((long) season << 32) | (id & 0xffffffffL);
+    }
+
+    private static int season(DeserializationContext context) {
+        Object season = context.getAttribute(SEASON);
+        return season instanceof Integer value ? value : LocalDate.now().getYear();
+    }
+
+    private static Integer parseSeason(String season) {
+        try {
+            return season != null ? Integer.valueOf(season) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String name(String name) {
+        return name == null ? null : names.computeIfAbsent(name, n -> n);
+    }
+
+    private MLBGameFeed.BatSide batSide(MLBGameFeed.BatSide parsed) {
+        return batSides.computeIfAbsent(parsed.getCode() + "|" + parsed.getDescription(), key -> parsed);
+    }
+
+    private MLBGameFeed.PitchHand pitchHand(MLBGameFeed.PitchHand parsed) {
+        return pitchHands.computeIfAbsent(parsed.getCode() + "|" + parsed.getDescription(), key -> parsed);
+    }
+
+    private MLBGameFeed.Linescore.Hand hand(MLBGameFeed.Linescore.Hand parsed) {
+        return hands.computeIfAbsent(parsed.getCode() + "|" + parsed.getDescription(), key -> parsed);
+    }
+
+    /**
+     * Fetches season stats for up to {@code statsBatchSize} stale players of one season in a single statsapi
+     * call. After a failure batches back off exponentially (up to the refresh interval), and players whose
+     * batch failed {@code MAX_BATCH_ATTEMPTS} times wait for the next refresh interval.
+     */
+    private Mono<Void> refreshStatsBatch() {
+        if (System.nanoTime() - nextBatchAt < 0) {
+            return Mono.empty();
+        }
+        List<Long> batch = new ArrayList<>(statsBatchSize);
+        int season = 0;
+        for (Long key : staleStats.keySet()) {
+            if (batch.isEmpty()) {
+                season = (int) (key >>> 32);
+            } else if ((int) (key >>> 32) != season) {
+                continue;
+            }
+            batch.add(key);
+            if (batch.size() >= statsBatchSize) {
+                break;
+            }
+        }
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<Integer> ids = batch.stream().map(key -> (int) (long) key).toList();
+        int batchSeason = season;
+        return feedSource.getObject().getPeopleWithSeasonStats(ids, batchSeason)
+                .doOnNext(response -> {
+                    failedBatches = 0;
+                    for (JsonNode person : response.path("people")) {
+                        updateStats(person.path("id").asInt(), batchSeason, parseStats(person.path("stats")));
+                    }
+                    batch.forEach(staleStats::remove);
+                    log.debug("Refreshed {} season stats of {} players", batchSeason, batch.size());
+                })
+                .doOnError(error -> {
+                    failedBatches++;
+                    long backoff = Math.min(statsRefreshInterval.toNanos(),
+                            statsBatchInterval.toNanos() << Math.min(failedBatches, 20));
+                    nextBatchAt = System.nanoTime() + backoff;
+                    for (Long key : batch) {
+                        AtomicInteger attempts = staleStats.get(key);
+                        if (attempts != null && attempts.incrementAndGet() >= MAX_BATCH_ATTEMPTS) {
+                            staleStats.remove(key, attempts);
+                        }
+                    }
+                })
+                .then();
+    }
+
+    private MLBGameFeed.Stats parseStats(JsonNode groups) {
+        MLBGameFeed.Batting batting = null;
+        MLBGameFeed.Pitching pitching = null;
+        for (JsonNode group : groups) {
+            JsonNode stat = group.path("splits").path(0).path("stat");
+            if (stat.isMissingNode()) {
+                continue;
+            }
+            String groupName = group.path("group").path("displayName").asText();
+            if ("hitting".equals(groupName)) {
+                batting = new MLBGameFeed.Batting(
+                        stat.path("avg").asDouble(),  // statsapi sends ".275" as a string
+                        stat.path("homeRuns").asInt(),
+                        stat.path("rbi").asInt());
+            } else if ("pitching".equals(groupName)) {
+                pitching = new MLBGameFeed.Pitching(
+                        stat.path("era").asDouble(),
+                        stat.path("wins").asInt(),
+                        stat.path("losses").asInt(),
+                        stat.path("strikeOuts").asInt());
+            }
+        }
+        return new MLBGameFeed.Stats(batting, pitching);
+    }
+
+    /**
+     * Replaces the canonical records of a player with copies carrying the new stats; the records already
+     * referenced by parsed feeds are immutable and keep the stats they were parsed with.
+     */
+    private void updateStats(int id, int season, MLBGameFeed.Stats stats) {
+        seasonStats.put(statsKey(id, season), stats);
+        if (!Objects.equals(statsSeasons.get(id), season)) {
+            // Meanwhile seen in a game of another season
+            return;
+        }
+        batters.computeIfPresent(id, (key, current) -> current.withStats(stats));
+        pitchers.computeIfPresent(id, (key, current) -> current.withStats(stats));
+    }
+}
@@ -0,0 +1,202 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Micro-batches model feedback on predictions: requests for the same play arriving within {@code window}
+ * share one model call whose prompt lists every prediction and asks for a JSON array back, which is fanned
+ * out to the callers. A batch is sent early once it holds {@code max-size} predictions. Users missing from
+ * the answer, and whole batches whose call failed, get the configured fallback. Batches go to
+ * {@link PredictionFeedbackModel}, never to a commentator conversation, and each prediction travels as a
+ * JSON string so viewer text can't break out of its entry.
+ */
+@Slf4j
+@Component
+public class PredictionFeedbackBatcher {
+    private static final int MAX_PREDICTION_CHARS = 280;
+    private static final Pattern FENCE = Pattern.compile("```(?:json)?\\s*(.*?)```", Pattern.DOTALL);
+
+    private final CommentaryDispatcher commentaryDispatcher;
+    private final PredictionFeedbackModel feedbackModel;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final int maxSize;
+    private final boolean templateFallback;
+
+    private final Map<String, Batch> open = new ConcurrentHashMap<>();
+
+    private record Pending(String userId, String prediction, CompletableFuture<String> result) {
+    }
+
+    private static class Batch {
+        private final String key;
+        private final PredictionOverlay.Outcome outcome;
+        private final CommentaryPriority priority;
+        private final List<Pending> requests = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        private Batch(String key, PredictionOverlay.Outcome outcome, CommentaryPriority priority) {
+            this.key = key;
+            this.outcome = outcome;
+            this.priority = priority;
+        }
+    }
+
+    @Autowired
+    public PredictionFeedbackBatcher(CommentaryDispatcher commentaryDispatcher, PredictionFeedbackModel feedbackModel,
+                                     ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                     @Value("${mlb.feedback.batch.window:5ms}") Duration window,
+                                     @Value("${mlb.feedback.batch.max-size:50}") int maxSize,
+                                     @Value("${mlb.feedback.batch.fallback:template}") String fallback) {
+        this.commentaryDispatcher = commentaryDispatcher;
+        this.feedbackModel = feedbackModel;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.maxSize = Math.max(1, maxSize);
+        this.templateFallback = !"none".equalsIgnoreCase(fallback);
+    }
+
+    public CompletableFuture<String> submit(String gameId, PredictionOverlay.Outcome outcome, String userId,
+                                            String prediction, CommentaryPriority priority) {
+        Pending pending = new Pending(userId, prediction, new CompletableFuture<>());
+        String key = gameId + ":" + outcome.atBatIndex();
+        while (true) {
+            Batch batch = open.computeIfAbsent(key, id -> {
+                Batch created = new Batch(id, outcome, priority);
+                Schedulers.parallel().schedule(() -> flush(created), window.toNanos(), TimeUnit.NANOSECONDS);
+                return created;
+            });
+            List<Pending> full = null;
+            batch.lock.lock();
+            try {
+                if (batch.closed) {
+                    // Flushed between the lookup and the lock, start a new batch
+                    open.remove(key, batch);
+                    continue;
+                }
+                batch.requests.add(pending);
+                if (batch.requests.size() >= maxSize) {
+                    full = close(batch);
+                }
+            } finally {
+                batch.lock.unlock();
+            }
+            if (full != null) {
+                send(batch, full);
+            }
+            return pending.result();
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<Pending> requests;
+        batch.lock.lock();
+        try {
+            if (batch.closed) {
+                return;
+            }
+            requests = close(batch);
+        } finally {
+            batch.lock.unlock();
+        }
+        send(batch, requests);
+    }
+
+    private List<Pending> close(Batch batch) {
+        batch.closed = true;
+        open.remove(batch.key, batch);
+        return new ArrayList<>(batch.requests);
+    }
+
+    private void send(Batch batch, List<Pending> requests) {
+        meterRegistry.summary("mlb.feedback.batch.size").record(requests.size());
+
+        List<Map<String, Object>> predictions = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            predictions.add(Map.of("id", i, "prediction", truncate(requests.get(i).prediction())));
+        }
+        // The instructions live in the feedback model's system prompt, the user message is data only
+        Map<String, Object> prompt = new LinkedHashMap<>();
+        prompt.put("outcome", batch.outcome.description());
+        prompt.put("predictions", predictions);
+
+        try {
+            String request = objectMapper.writeValueAsString(prompt);
+            commentaryDispatcher.submitCall("feedback-" + batch.key, () -> feedbackModel.feedback(request), batch.priority)
+                    .whenComplete((answer, error) -> {
+                        Map<Integer, String> feedback = error == null ? parse(answer) : Map.of();
+                        if (error != null) {
+                            log.warn("Feedback batch for play {} failed: {}", batch.key, error.getMessage());
+                        }
+                        for (int i = 0; i < requests.size(); i++) {
+                            Pending pending = requests.get(i);
+                            String text = feedback.get(i);
+                            pending.result().complete(text != null ? text : fallback(pending.prediction()));
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            requests.forEach(pending -> pending.result().complete(fallback(pending.prediction())));
+        }
+    }
+
+    /**
+     * Feedback by prediction id from the model's answer. Entries without an id or a feedback string are
+     * skipped, and so is everything after an id's first entry; a malformed answer yields nothing.
+     */
+    Map<Integer, String> parse(String answer) {
+        Map<Integer, String> feedback = new HashMap<>();
+        if (answer == null) {
+            return feedback;
+        }
+        // Models like to wrap JSON in a markdown fence
+        Matcher fence = FENCE.matcher(answer);
+        String body = fence.find() ? fence.group(1) : answer;
+        int start = body.indexOf('[');
+        int end = body.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            return feedback;
+        }
+        try {
+            for (JsonNode item : objectMapper.readTree(body.substring(start, end + 1))) {
+                if (item.path("id").canConvertToInt() && item.path("feedback").isTextual()) {
+                    feedback.putIfAbsent(item.path("id").asInt(), item.path("feedback").asText());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Unparseable feedback batch answer: {}", e.getOriginalMessage());
+        }
+        return feedback;
+    }
+
+    private static String truncate(String prediction) {
+        return prediction.length() > MAX_PREDICTION_CHARS ? prediction.substring(0, MAX_PREDICTION_CHARS) : prediction;
+    }
+
+    private String fallback(String prediction) {
+        return templateFallback ? "You predicted \"" + prediction + "\"." : null;
+    }
+}
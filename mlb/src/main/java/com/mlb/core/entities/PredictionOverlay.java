@@ -0,0 +1,98 @@
+package com.mlb.core.entities;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Short per-user line comparing a prediction with the outcome of a play, shown next to the
+ * {@link SharedCommentary shared narrative}. Predictions naming a plate appearance outcome are judged by
+ * rules; anything else (pitch types, locations, free text) goes to the {@link PredictionFeedbackBatcher},
+ * which shares one model call between all viewers asking about the same play.
+ */
+@Component
+@RequiredArgsConstructor
+public class PredictionOverlay {
+
+    // Whole-word phrases checked in order, so longer phrases win over the words they contain
+    private static final Map<Pattern, Set<String>> OUTCOMES = new LinkedHashMap<>();
+
+    static {
+        outcome("double play", "grounded_into_double_play", "double_play", "strikeout_double_play");
+        outcome("hit by pitch", "hit_by_pitch");
+        outcome("home run|homer", "home_run");
+        outcome("strikeout|strike out|struck out|strikes out", "strikeout", "strikeout_double_play");
+        outcome("walk|walks|base on balls", "walk", "intent_walk");
+        outcome("single", "single");
+        outcome("double", "double");
+        outcome("triple", "triple");
+        outcome("sacrifice|sac fly|sac bunt", "sac_fly", "sac_bunt");
+        outcome("hit|base hit", "single", "double", "triple", "home_run");
+        outcome("out|ground out|groundout|fly out|flyout|pop out|lineout", "field_out", "force_out", "strikeout",
+                "grounded_into_double_play", "double_play", "fielders_choice_out", "sac_fly", "sac_bunt",
+                "strikeout_double_play");
+    }
+
+    private static void outcome(String phrases, String... eventTypes) {
+        OUTCOMES.put(Pattern.compile("\\b(" + phrases + ")\\b"), Set.of(eventTypes));
+    }
+
+    private final PredictionFeedbackBatcher feedbackBatcher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * What a prediction is judged against: the play's event type, its display name and a plain description.
+     */
+    public record Outcome(int atBatIndex, String eventType, String event, String description) {
+
+        public static Outcome of(MLBGameFeed.PlayEvent play) {
+            return new Outcome(play.getAbout().getAtBatIndex(), play.getResult().getEventType(),
+                    play.getResult().getEvent(), play.getResult().getDescription());
+        }
+
+        /**
+         * From a live event, whose description is already commentary.
+         */
+        public static Outcome of(MLBGameEvent event) {
+            return new Outcome(event.getAtBatIndex(), event.getType(), event.getResult(),
+                    event.getResult() + ": " + event.getBatterName() + " facing " + event.getPitcherName());
+        }
+    }
+
+    /**
+     * Overlay for one viewer, null when they made no prediction or the play is not a plate appearance.
+     */
+    public CompletableFuture<String> overlay(String gameId, String userId, Outcome outcome, UserPrediction prediction,
+                                             CommentaryPriority priority) {
+        if (prediction == null || prediction.getPrediction() == null
+                || outcome.eventType() == null || "game_advisory".equals(outcome.eventType())) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String predicted = prediction.getPrediction().toLowerCase(Locale.ROOT);
+        for (Map.Entry<Pattern, Set<String>> rule : OUTCOMES.entrySet()) {
+            if (rule.getKey().matcher(predicted).find()) {
+                meterRegistry.counter("mlb.commentary.overlay", "path", "rule").increment();
+                return CompletableFuture.completedFuture(
+                        ruleOverlay(prediction.getPrediction(), rule.getValue().contains(outcome.eventType()), outcome));
+            }
+        }
+
+        meterRegistry.counter("mlb.commentary.overlay", "path", "model").increment();
+        return feedbackBatcher.submit(gameId, outcome, userId, prediction.getPrediction(), priority);
+    }
+
+    private String ruleOverlay(String prediction, boolean correct, Outcome outcome) {
+        String event = (outcome.event() != null ? outcome.event() : outcome.eventType()).toLowerCase(Locale.ROOT);
+        return correct
+                ? "You called it: \"" + prediction + "\" and it was a " + event + "."
+                : "You predicted \"" + prediction + "\", it ended in a " + event + " instead.";
+    }
+}
@@ -0,0 +1,108 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+
+/**
+ * Reads from statsapi like {@link HttpFeedSource} and writes every raw document to
+ * {@code mlb.feed.directory} in the layout {@link ResourceFeedSource} plays back.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mlb.feed.source", havingValue = "recording")
+public class RecordingFeedSource extends JsonFeedSource {
+    private final HttpFeedSource delegate;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    @Autowired
+    public RecordingFeedSource(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                               PlayerRegistry playerRegistry, FeedResilience resilience,
+                               @Value("${mlb.feed.base-url:https://statsapi.mlb.com/api/v1.1}") String baseUrl,
+                               @Value("${mlb.feed.schedule-url:https://statsapi.mlb.com/api/v1/schedule/}") String scheduleUrl,
+                               @Value("${mlb.feed.people-url:https://statsapi.mlb.com/api/v1/people}") String peopleUrl,
+                               @Value("${mlb.feed.directory:recordings}") String directory) {
+        super(objectMapper, playerRegistry);
+        this.delegate = new HttpFeedSource(webClientBuilder, objectMapper, playerRegistry, resilience,
+                baseUrl, scheduleUrl, peopleUrl);
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+    }
+
+    @Override
+    protected Mono<String> getTimestampsJson(String gameId) {
+        return record(delegate.getTimestampsJson(gameId), ResourceFeedSource.timestampsPath(directory, gameId));
+    }
+
+    @Override
+    protected Mono<String> getFeedJson(String gameId, String timecode) {
+        return record(delegate.getFeedJson(gameId, timecode), ResourceFeedSource.feedPath(directory, gameId, timecode));
+    }
+
+    @Override
+    protected Mono<String> getArchivedFeedJson(String gameId) {
+        return record(delegate.getArchivedFeedJson(gameId), ResourceFeedSource.feedPath(directory, gameId, null));
+    }
+
+    @Override
+    protected Mono<String> getScheduleJson(String startDate, String endDate) {
+        return record(delegate.getScheduleJson(startDate, endDate),
+                ResourceFeedSource.schedulePath(directory, startDate, endDate));
+    }
+
+    @Override
+    protected Mono<String> getSeasonScheduleJson(int season) {
+        return record(delegate.getSeasonScheduleJson(season), ResourceFeedSource.seasonSchedulePath(directory, season));
+    }
+
+    /**
+     * Recorded one file per person, since playback asks for other batches of ids.
+     */
+    @Override
+    protected Mono<String> getPeopleJson(Collection<Integer> personIds, int season) {
+        return delegate.getPeopleJson(personIds, season).flatMap(json -> Mono.fromCallable(() -> {
+            try {
+                for (JsonNode person : objectMapper.readTree(json).path("people")) {
+                    write(ResourceFeedSource.personPath(directory, person.path("id").asInt(), season),
+                            objectMapper.writeValueAsString(person));
+                }
+            } catch (IOException e) {
+                log.error("Error recording people of season {}: ", season, e);
+            }
+            return json;
+        }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Mono<String> record(Mono<String> response, Path target) {
+        return response.flatMap(json -> Mono.fromCallable(() -> {
+            write(target, json);
+            return json;
+        }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private void write(Path target, String json) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            Files.writeString(temp, json);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // A failed recording must not break the live pipeline
+            log.error("Error recording feed document to {}: ", target, e);
+        }
+    }
+}
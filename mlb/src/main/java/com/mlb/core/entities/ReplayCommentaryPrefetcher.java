@@ -0,0 +1,104 @@
+package com.mlb.core.entities;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Look-ahead commentary for one replay stream: while play {@code i} is on screen the commentary of plays
+ * {@code i+1..i+lookAhead} is already being generated, each with the game state it will be shown with.
+ * Seeking or closing cancels everything in flight. Calls are serialized by a lock, since a seek restarts the
+ * replay pipeline on the seeking request's thread while the previous play may still be finishing on another.
+ */
+public class ReplayCommentaryPrefetcher {
+
+    public interface Request {
+        CompletableFuture<String> generate(MLBGameFeed.PlayEvent play, Map<String, Object> engineContext,
+                                           int awayScore, int homeScore);
+    }
+
+    private final List<MLBGameFeed.PlayEvent> plays;
+    private final WinExpectancyTables tables;
+    private final int lookAhead;
+    private final Request request;
+    private final Map<Integer, CompletableFuture<String>> prefetched = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // State after the last play submitted, the next one to submit is plays[nextIndex]
+    private GameStateEngine engine;
+    private int nextIndex;
+    private final int[] scores = new int[2];  // [homeScore, awayScore]
+
+    public ReplayCommentaryPrefetcher(List<MLBGameFeed.PlayEvent> plays, WinExpectancyTables tables,
+                                      int lookAhead, Request request) {
+        this.plays = plays;
+        this.tables = tables;
+        this.lookAhead = Math.max(0, lookAhead);
+        this.request = request;
+        seek(0);
+    }
+
+    /**
+     * Commentary of {@code plays[index]}, and starts the commentary of the plays after it.
+     */
+    public CompletableFuture<String> take(int index) {
+        lock.lock();
+        try {
+            fill(index);
+            return prefetched.remove(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every prefetch and continues from {@code plays[index]}.
+     */
+    public void seek(int index) {
+        lock.lock();
+        try {
+            close();
+            engine = new GameStateEngine(tables);
+            scores[0] = 0;
+            scores[1] = 0;
+            for (int i = 0; i < index; i++) {
+                advance(plays.get(i));
+            }
+            nextIndex = index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            prefetched.values().forEach(commentary -> commentary.cancel(false));
+            prefetched.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fill(int from) {
+        int last = Math.min(plays.size() - 1, from + lookAhead);
+        while (nextIndex <= last) {
+            MLBGameFeed.PlayEvent play = plays.get(nextIndex);
+            advance(play);
+            prefetched.put(nextIndex, request.generate(play, engine.toContext(), scores[1], scores[0]));
+            nextIndex++;
+        }
+    }
+
+    private void advance(MLBGameFeed.PlayEvent play) {
+        if (play.getResult().getHomeScore() != null) {
+            scores[0] = play.getResult().getHomeScore();
+        }
+        if (play.getResult().getAwayScore() != null) {
+            scores[1] = play.getResult().getAwayScore();
+        }
+        engine.apply(play);
+    }
+}
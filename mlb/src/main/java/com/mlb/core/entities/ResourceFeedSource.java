@@ -0,0 +1,130 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Plays back GUMBO documents from disk, as written by {@link RecordingFeedSource}:
+ * <pre>
+ * {dir}/{gameId}/timestamps.json
+ * {dir}/{gameId}/feed/latest.json
+ * {dir}/{gameId}/feed/{timecode}.json
+ * {dir}/schedule/{startDate}_{endDate}.json
+ * {dir}/schedule/season-{season}.json
+ * {dir}/people/{season}/{personId}.json
+ * </pre>
+ * Without a recording the bundled sample game ({@code timestamp.json}, {@code SampleGame.json}) is served.
+ * People are looked up one by one, players never recorded are missing from the answer.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mlb.feed.source", havingValue = "file")
+public class ResourceFeedSource extends JsonFeedSource {
+    // SampleGame.json and timestamp.json in src/main/resources are recordings of this game
+    static final String BUNDLED_GAME_ID = "775296";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    @Autowired
+    public ResourceFeedSource(ObjectMapper objectMapper, PlayerRegistry playerRegistry,
+                              @Value("${mlb.feed.directory:recordings}") String directory) {
+        super(objectMapper, playerRegistry);
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+    }
+
+    static Path timestampsPath(Path directory, String gameId) {
+        return directory.resolve(gameId).resolve("timestamps.json");
+    }
+
+    static Path feedPath(Path directory, String gameId, String timecode) {
+        return directory.resolve(gameId).resolve("feed").resolve((timecode == null ? "latest" : timecode) + ".json");
+    }
+
+    static Path schedulePath(Path directory, String startDate, String endDate) {
+        return directory.resolve("schedule").resolve(startDate + "_" + endDate + ".json");
+    }
+
+    static Path seasonSchedulePath(Path directory, int season) {
+        return directory.resolve("schedule").resolve("season-" + season + ".json");
+    }
+
+    static Path personPath(Path directory, int personId, int season) {
+        return directory.resolve("people").resolve(String.valueOf(season)).resolve(personId + ".json");
+    }
+
+    @Override
+    protected Mono<String> getTimestampsJson(String gameId) {
+        return read(timestampsPath(directory, gameId), gameId, "timestamp.json");
+    }
+
+    @Override
+    protected Mono<String> getFeedJson(String gameId, String timecode) {
+        Path recorded = feedPath(directory, gameId, timecode);
+        if (timecode != null && !Files.exists(recorded)) {
+            // Recordings made from the latest feed only still play back at any timecode
+            recorded = feedPath(directory, gameId, null);
+        }
+        return read(recorded, gameId, "SampleGame.json");
+    }
+
+    @Override
+    protected Mono<String> getScheduleJson(String startDate, String endDate) {
+        return read(schedulePath(directory, startDate, endDate), null, null);
+    }
+
+    @Override
+    protected Mono<String> getSeasonScheduleJson(int season) {
+        return read(seasonSchedulePath(directory, season), null, null);
+    }
+
+    @Override
+    protected Mono<String> getPeopleJson(Collection<Integer> personIds, int season) {
+        return Mono.fromCallable(() -> {
+            ObjectNode response = objectMapper.createObjectNode();
+            ArrayNode people = response.putArray("people");
+            for (int personId : personIds) {
+                Path recorded = personPath(directory, personId, season);
+                if (Files.exists(recorded)) {
+                    people.add(objectMapper.readTree(recorded.toFile()));
+                }
+            }
+            return objectMapper.writeValueAsString(response);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<String> read(Path recorded, String gameId, String bundledResource) {
+        return Mono.fromCallable(() -> {
+            if (Files.exists(recorded)) {
+                return Files.readString(recorded);
+            }
+            if (BUNDLED_GAME_ID.equals(gameId) && bundledResource != null) {
+                return readBundled(bundledResource);
+            }
+            throw new IOException("No recorded feed document at " + recorded);
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String readBundled(String resource) throws IOException {
+        try (InputStream in = new ClassPathResource(resource).getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
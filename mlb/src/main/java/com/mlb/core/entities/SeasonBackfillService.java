@@ -0,0 +1,156 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Archives every final game of a season: walks the season schedule, fetches the final GUMBO feeds with
+ * bounded parallelism and retry, then parses, compacts and writes them to the {@link PlayArchive} on
+ * parallel rails of the bounded elastic scheduler, since every checkpoint append is a blocking synced
+ * write. Games already in the season checkpoint are skipped, so an interrupted run resumes.
+ */
+@Slf4j
+@Service
+public class SeasonBackfillService {
+    private final FeedSource feedSource;
+    private final PlayArchive playArchive;
+    private final PlayQueryIndex playQueryIndex;
+    private final int parallelism;
+    private final int retries;
+    private final Set<String> gameTypes;
+
+    private final Map<Integer, BackfillStatus> runs = new ConcurrentHashMap<>();
+
+    public SeasonBackfillService(FeedSource feedSource, PlayArchive playArchive,
+                                 PlayQueryIndex playQueryIndex,
+                                 @Value("${mlb.archive.backfill.parallelism:16}") int parallelism,
+                                 @Value("${mlb.archive.backfill.retries:3}") int retries,
+                                 @Value("${mlb.archive.backfill.game-types:R}") Set<String> gameTypes) {
+        this.feedSource = feedSource;
+        this.playArchive = playArchive;
+        this.playQueryIndex = playQueryIndex;
+        this.parallelism = parallelism;
+        this.retries = retries;
+        this.gameTypes = gameTypes;
+    }
+
+    public BackfillStatus getStatus(int season) {
+        return runs.get(season);
+    }
+
+    /**
+     * Starts archiving a season in the background, or returns the run already in progress.
+     */
+    public BackfillStatus start(int season) {
+        BackfillStatus started = new BackfillStatus(season);
+        // Atomic per season: of two concurrent requests only one replaces a finished run and starts it
+        BackfillStatus status = runs.compute(season, (key, current) ->
+                current != null && current.getState() == BackfillStatus.State.RUNNING ? current : started);
+        if (status != started) {
+            return status;
+        }
+
+        feedSource.getSeasonSchedule(season)
+                .map(this::finalGames)
+                .defaultIfEmpty(List.of())
+                // The checkpoint is read from disk
+                .publishOn(Schedulers.boundedElastic())
+                .flatMapMany(gamePks -> {
+                    Set<Long> completed = checkpoint(season);
+                    status.setTotalGames(gamePks.size());
+                    status.setResumedFromCheckpoint((int) gamePks.stream().filter(completed::contains).count());
+                    return Flux.fromIterable(gamePks).filter(gamePk -> !completed.contains(gamePk));
+                })
+                .flatMap(gamePk -> fetch(gamePk, status), parallelism)
+                .parallel(parallelism)
+                .runOn(Schedulers.boundedElastic())
+                .doOnNext(game -> archive(season, game.gamePk(), game.json(), status))
+                .sequential()
+                .subscribe(
+                        game -> { },
+                        error -> {
+                            log.error("Backfill of season {} failed: ", season, error);
+                            status.setState(BackfillStatus.State.FAILED);
+                            status.setFinishedAt(Instant.now());
+                        },
+                        () -> {
+                            log.info("Backfill of season {} done: {} archived, {} failed",
+                                    season, status.getArchived().get(), status.getFailed().get());
+                            status.setState(BackfillStatus.State.COMPLETED);
+                            status.setFinishedAt(Instant.now());
+                            playQueryIndex.reload();
+                        });
+        return status;
+    }
+
+    private record FetchedGame(long gamePk, String json) {
+    }
+
+    private List<Long> finalGames(SeasonSchedule schedule) {
+        if (schedule.getDates() == null) {
+            return List.of();
+        }
+        return schedule.getDates().stream()
+                .filter(date -> date.getGames() != null)
+                .flatMap(date -> date.getGames().stream())
+                .filter(game -> gameTypes.contains(game.getGameType()))
+                .filter(game -> game.getStatus() != null && "Final".equals(game.getStatus().getAbstractGameState()))
+                .map(MLBResponse.GameData::getGamePk)
+                .distinct()  // resumed and rescheduled games show up on several dates
+                .toList();
+    }
+
+    private Set<Long> checkpoint(int season) {
+        try {
+            return playArchive.completedGames(season);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Mono<FetchedGame> fetch(long gamePk, BackfillStatus status) {
+        return feedSource.getArchivedFeedDocument(String.valueOf(gamePk))
+                .retryWhen(Retry.backoff(retries, Duration.ofSeconds(1)).jitter(0.5))
+                .map(json -> new FetchedGame(gamePk, json))
+                .onErrorResume(error -> {
+                    log.warn("Giving up on game {}: {}", gamePk, error.getMessage());
+                    status.getFailed().incrementAndGet();
+                    return Mono.empty();
+                });
+    }
+
+    private void archive(int season, long gamePk, String json, BackfillStatus status) {
+        try {
+            MLBGameFeed feed = feedSource.parseFeed(json);
+            List<PlayRecord> plays = feed.getLiveData() == null || feed.getLiveData().getPlays() == null
+                    || feed.getLiveData().getPlays().getAllPlays() == null
+                    ? List.of()
+                    : feed.getLiveData().getPlays().getAllPlays().stream()
+                    .filter(Objects::nonNull)
+                    .filter(play -> play.getAbout() != null && play.getAbout().isComplete())
+                    .map(play -> PlayRecord.of(gamePk, play))
+                    .toList();
+            playArchive.write(season, gamePk, plays);
+            playArchive.markCompleted(season, gamePk);
+            status.getArchived().incrementAndGet();
+        } catch (Exception e) {
+            log.error("Error archiving game {}: ", gamePk, e);
+            status.getFailed().incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mlb.core.entities;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-play narrative shared by every viewer of a game: generated once per game and at-bat, whatever the
+ * number of streams showing it. The narrative carries no user prediction, that part is the
+ * {@link PredictionOverlay}. Games not used for a while are dropped once more than {@code max-games} are held.
+ */
+@Service
+public class SharedCommentary {
+    private final CommentaryGenerator commentaryGenerator;
+    private final int maxGames;
+
+    private final Map<String, GameNarratives> games = new ConcurrentHashMap<>();
+    private final CacheStats cacheStats = new CacheStats();
+
+    private static class GameNarratives {
+        private final Map<Integer, CompletableFuture<String>> plays = new ConcurrentHashMap<>();
+        private volatile long lastUsed = System.currentTimeMillis();
+    }
+
+    @Autowired
+    public SharedCommentary(CommentaryGenerator commentaryGenerator,
+                            @Value("${mlb.commentary.shared.max-games:64}") int maxGames) {
+        this.commentaryGenerator = commentaryGenerator;
+        this.maxGames = maxGames;
+    }
+
+    /**
+     * Narrative of a play, {@code context} is only built on the first request for it. Cancelling the returned
+     * future does not cancel the generation other viewers may be waiting for.
+     */
+    public CompletableFuture<String> narrative(String gameId, MLBGameFeed.PlayEvent play,
+                                               Supplier<Map<String, Object>> context, CommentaryPriority priority,
+                                               int awayScore, int homeScore) {
+        GameNarratives game = games.computeIfAbsent(gameId, id -> new GameNarratives());
+        game.lastUsed = System.currentTimeMillis();
+        if (games.size() > maxGames) {
+            evictLeastRecentlyUsed();
+        }
+
+        int atBatIndex = play.getAbout().getAtBatIndex();
+        CompletableFuture<String> cached = game.plays.get(atBatIndex);
+        if (cached != null && !cached.isCompletedExceptionally()) {
+            cacheStats.hit();
+            return cached.thenApply(text -> text);
+        }
+        cacheStats.miss();
+        CompletableFuture<String> generated = game.plays.compute(atBatIndex, (index, existing) ->
+                existing != null && !existing.isCompletedExceptionally()
+                        ? existing
+                        : commentaryGenerator.generate("game-" + gameId, play, context.get(), priority,
+                        awayScore, homeScore));
+        return generated.thenApply(text -> text);
+    }
+
+    public CacheStats getCacheStats() {
+        return cacheStats;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        games.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                .ifPresent(entry -> games.remove(entry.getKey(), entry.getValue()));
+    }
+}
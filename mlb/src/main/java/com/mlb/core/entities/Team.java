@@ -1,5 +1,10 @@
 package com.mlb.core.entities;
 
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
 public class Team {
 
     private Integer id;
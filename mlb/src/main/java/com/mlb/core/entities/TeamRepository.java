@@ -2,5 +2,14 @@ package com.mlb.core.entities;
 
 
 
+import java.util.List;
+import java.util.Optional;
+
 public interface TeamRepository  {
-}
\ No newline at end of file
+
+    void save(Team team);
+
+    Optional<Team> findById(int id);
+
+    List<Team> findAll();
+}
@@ -0,0 +1,62 @@
+package com.mlb.core.entities;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders short commentary for routine plays straight from the structured play, no model involved.
+ */
+@Component
+public class TemplateCommentary {
+
+    public String render(MLBGameFeed.PlayEvent play) {
+        MLBGameFeed.Result result = play.getResult();
+        String description = result != null && result.getDescription() != null
+                ? result.getDescription()
+                : "";
+
+        if (result == null || "game_advisory".equals(result.getEventType())) {
+            return description;
+        }
+
+        StringBuilder text = new StringBuilder();
+        MLBGameFeed.About about = play.getAbout();
+        if (about != null && about.getHalfInning() != null) {
+            text.append(capitalize(about.getHalfInning()))
+                    .append(' ')
+                    .append(ordinal(about.getInning()))
+                    .append(": ");
+        }
+        text.append(description.isEmpty() ? fallbackDescription(play) : description);
+
+        if (play.getCount() != null && about != null && about.isComplete()) {
+            int outs = play.getCount().getOuts();
+            text.append(outs == 3 ? " That ends the inning." : outs == 1 ? " One out." : outs == 2 ? " Two outs." : "");
+        }
+        return text.toString();
+    }
+
+    private String fallbackDescription(MLBGameFeed.PlayEvent play) {
+        String batter = play.getMatchup() != null && play.getMatchup().getBatter() != null
+                ? play.getMatchup().getBatter().getFullName()
+                : "The batter";
+        String event = play.getResult().getEvent() != null ? play.getResult().getEvent().toLowerCase() : "puts the ball in play";
+        return batter + ": " + event + ".";
+    }
+
+    private String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private String ordinal(int number) {
+        int mod100 = number % 100;
+        if (mod100 >= 11 && mod100 <= 13) {
+            return number + "th";
+        }
+        return switch (number % 10) {
+            case 1 -> number + "st";
+            case 2 -> number + "nd";
+            case 3 -> number + "rd";
+            default -> number + "th";
+        };
+    }
+}
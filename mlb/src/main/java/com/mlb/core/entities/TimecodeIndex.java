@@ -0,0 +1,111 @@
+package com.mlb.core.entities;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, sorted index over the GUMBO timecodes of one game ("yyyyMMdd_HHmmss", UTC).
+ * Timecodes are parsed to epoch millis once so seeking is a binary search instead of a list scan.
+ */
+@Slf4j
+public class TimecodeIndex {
+
+    public static final TimecodeIndex EMPTY = new TimecodeIndex(new long[0], new String[0]);
+
+    private static final DateTimeFormatter TIMECODE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final long[] epochs;
+    private final String[] timecodes;
+
+    private TimecodeIndex(long[] epochs, String[] timecodes) {
+        this.epochs = epochs;
+        this.timecodes = timecodes;
+    }
+
+    /**
+     * Index over the given timecodes. Malformed ones are left out with a warning instead of failing the index.
+     */
+    public static TimecodeIndex of(List<String> rawTimecodes) {
+        if (rawTimecodes == null || rawTimecodes.isEmpty()) {
+            return EMPTY;
+        }
+
+        String[] sorted = rawTimecodes.stream()
+                .filter(timecode -> timecode != null && !timecode.isEmpty())
+                .distinct()
+                .sorted()  // the format sorts lexicographically in time order
+                .toArray(String[]::new);
+
+        long[] epochs = new long[sorted.length];
+        int valid = 0;
+        for (String timecode : sorted) {
+            try {
+                epochs[valid] = toEpochMillis(timecode);
+                sorted[valid++] = timecode;
+            } catch (DateTimeParseException e) {
+                log.warn("Skipping malformed timecode '{}'", timecode);
+            }
+        }
+        return valid == sorted.length
+                ? new TimecodeIndex(epochs, sorted)
+                : new TimecodeIndex(Arrays.copyOf(epochs, valid), Arrays.copyOf(sorted, valid));
+    }
+
+    public static long toEpochMillis(String timecode) {
+        return LocalDateTime.parse(timecode, TIMECODE_FORMAT).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static String toTimecode(long epochMillis) {
+        return TIMECODE_FORMAT.format(LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMillis, 1000), 0, ZoneOffset.UTC));
+    }
+
+    public int size() {
+        return timecodes.length;
+    }
+
+    public boolean isEmpty() {
+        return timecodes.length == 0;
+    }
+
+    public String timecode(int index) {
+        return timecodes[index];
+    }
+
+    public long epochMillis(int index) {
+        return epochs[index];
+    }
+
+    public String last() {
+        return isEmpty() ? null : timecodes[timecodes.length - 1];
+    }
+
+    /**
+     * Position of the first timecode strictly after the given one, 0 if {@code timecode} is null
+     * and {@link #size()} if there is nothing newer.
+     */
+    public int indexAfter(String timecode) {
+        if (timecode == null) {
+            return 0;
+        }
+        return upperBound(toEpochMillis(timecode));
+    }
+
+    /**
+     * Position of the latest timecode at or before {@code epochMillis}, -1 if the game had not started.
+     */
+    public int floorIndex(long epochMillis) {
+        return upperBound(epochMillis) - 1;
+    }
+
+    private int upperBound(long epochMillis) {
+        int pos = Arrays.binarySearch(epochs, epochMillis);
+        return pos >= 0 ? pos + 1 : -(pos + 1);
+    }
+}
@@ -0,0 +1,313 @@
+package com.mlb.core.entities;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Run-expectancy, win-probability and leverage tables held in flat primitive arrays.
+ * They are built offline from the {@link PlayArchive} and persisted, so lookups on the
+ * ingestion path are a single array read. Until a build exists, run expectancy falls back
+ * to published league averages and win probability and leverage are unknown ({@code NaN}).
+ */
+@Slf4j
+@Component
+public class WinExpectancyTables {
+    private static final int MAGIC = 0x57504531; // "WPE1"
+
+    static final int BASE_OUT_STATES = 24;          // 3 outs x 8 base states
+    private static final int INNINGS = 9;           // extra innings share the 9th inning rows
+    private static final int MAX_LEAD = 10;
+    private static final int LEADS = 2 * MAX_LEAD + 1;
+    private static final int WP_CELLS = INNINGS * 2 * BASE_OUT_STATES * LEADS;
+    private static final int MIN_SAMPLES = 20;
+
+    // MLB 2010-2015 averages, indexed by outs * 8 + bases
+    private static final double[] DEFAULT_RUN_EXPECTANCY = {
+            0.481, 0.859, 1.100, 1.437, 1.350, 1.784, 1.964, 2.292,
+            0.254, 0.509, 0.664, 0.884, 0.950, 1.130, 1.376, 1.541,
+            0.098, 0.224, 0.319, 0.429, 0.353, 0.478, 0.580, 0.752
+    };
+
+    private final PlayArchive playArchive;
+    private final Path file;
+    private volatile Tables tables = Tables.defaults();
+
+    private record Tables(double[] runExpectancy, double[] winProbability, double[] leverage, int games) {
+        private static Tables defaults() {
+            double[] unknown = new double[WP_CELLS];
+            Arrays.fill(unknown, Double.NaN);
+            return new Tables(DEFAULT_RUN_EXPECTANCY.clone(), unknown, unknown, 0);
+        }
+    }
+
+    public WinExpectancyTables(PlayArchive playArchive,
+                               @Value("${mlb.archive.tables-file:archive/win-expectancy.tables}") String file) {
+        this.playArchive = playArchive;
+        this.file = Path.of(file);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(file)) {
+            log.info("No win expectancy tables at {}, using league run expectancy only", file);
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a win expectancy table file: " + file);
+            }
+            int games = in.readInt();
+            tables = new Tables(readArray(in, BASE_OUT_STATES), readArray(in, WP_CELLS), readArray(in, WP_CELLS), games);
+            log.info("Loaded win expectancy tables built from {} games", games);
+        } catch (IOException e) {
+            log.error("Error loading win expectancy tables, using defaults: ", e);
+        }
+    }
+
+    public static int baseOutState(int outs, int bases) {
+        return Math.min(outs, 2) * 8 + (bases & 7);
+    }
+
+    private static int cell(int inning, boolean topInning, int outs, int bases, int homeLead) {
+        int inningRow = Math.min(Math.max(inning, 1), INNINGS) - 1;
+        int lead = Math.max(-MAX_LEAD, Math.min(MAX_LEAD, homeLead)) + MAX_LEAD;
+        return ((inningRow * 2 + (topInning ? 0 : 1)) * BASE_OUT_STATES + baseOutState(outs, bases)) * LEADS + lead;
+    }
+
+    public double runExpectancy(int outs, int bases) {
+        return tables.runExpectancy[baseOutState(outs, bases)];
+    }
+
+    /**
+     * Probability that the home team wins from the start of a plate appearance in this state, NaN if unknown.
+     */
+    public double homeWinProbability(int inning, boolean topInning, int outs, int bases, int homeLead) {
+        return tables.winProbability[cell(inning, topInning, outs, bases, homeLead)];
+    }
+
+    /**
+     * Expected win probability swing of a plate appearance in this state relative to an average one, NaN if unknown.
+     */
+    public double leverageIndex(int inning, boolean topInning, int outs, int bases, int homeLead) {
+        return tables.leverage[cell(inning, topInning, outs, bases, homeLead)];
+    }
+
+    public int getGamesSampled() {
+        return tables.games;
+    }
+
+    /**
+     * Rebuilds all tables from every archived game, persists them and swaps them in. Meant to run
+     * off the request path after a backfill; it reads the whole archive.
+     */
+    public void rebuild() throws IOException {
+        double[] runSums = new double[BASE_OUT_STATES];
+        int[] runCounts = new int[BASE_OUT_STATES];
+        int[] wpCounts = new int[WP_CELLS];
+        int[] homeWins = new int[WP_CELLS];
+        List<int[]> gameCells = new ArrayList<>();
+        List<Boolean> gameWinners = new ArrayList<>();
+
+        for (int season : playArchive.listSeasons()) {
+            for (long gamePk : playArchive.listGames(season)) {
+                List<PlayRecord> plays = playArchive.read(season, gamePk);
+                if (plays.isEmpty()) {
+                    continue;
+                }
+                PlayRecord last = plays.get(plays.size() - 1);
+                if (last.getHomeScore() == last.getAwayScore()) {
+                    continue;  // suspended or unfinished
+                }
+                boolean homeWon = last.getHomeScore() > last.getAwayScore();
+                accumulateRuns(plays, runSums, runCounts);
+                gameCells.add(accumulateWins(plays, homeWon, wpCounts, homeWins));
+                gameWinners.add(homeWon);
+            }
+        }
+
+        double[] runExpectancy = DEFAULT_RUN_EXPECTANCY.clone();
+        for (int state = 0; state < BASE_OUT_STATES; state++) {
+            if (runCounts[state] >= MIN_SAMPLES) {
+                runExpectancy[state] = runSums[state] / runCounts[state];
+            }
+        }
+        double[] winProbability = smoothWinProbability(wpCounts, homeWins);
+        double[] leverage = leverage(winProbability, gameCells, gameWinners);
+        int games = gameCells.size();
+
+        Tables rebuilt = new Tables(runExpectancy, winProbability, leverage, games);
+        write(rebuilt);
+        tables = rebuilt;
+        log.info("Rebuilt win expectancy tables from {} games", games);
+    }
+
+    /**
+     * Runs scored from each base/out state to the end of its half-inning. Half-innings that did not
+     * end on a third out (walk-offs, unfinished games) are skipped since their remaining runs are cut short.
+     */
+    private static void accumulateRuns(List<PlayRecord> plays, double[] runSums, int[] runCounts) {
+        int start = 0;
+        for (int i = 1; i <= plays.size(); i++) {
+            if (i < plays.size() && sameHalf(plays.get(i), plays.get(start))) {
+                continue;
+            }
+            PlayRecord end = plays.get(i - 1);
+            if (end.getOuts() == 3) {
+                int endRuns = battingScore(end);
+                int outs = 0, bases = 0;
+                int runs = start > 0 ? battingScoreAfter(plays.get(start - 1), end.isTopInning()) : 0;
+                for (int j = start; j < i; j++) {
+                    PlayRecord play = plays.get(j);
+                    int state = baseOutState(outs, bases);
+                    runSums[state] += endRuns - runs;
+                    runCounts[state]++;
+                    outs = play.getOuts();
+                    bases = play.getBases();
+                    runs = battingScore(play);
+                }
+            }
+            start = i;
+        }
+    }
+
+    /**
+     * Counts the state before each plate appearance of a game and returns those states in order.
+     */
+    private static int[] accumulateWins(List<PlayRecord> plays, boolean homeWon, int[] wpCounts, int[] homeWins) {
+        int[] cells = new int[plays.size()];
+        PlayRecord previous = null;
+        for (int i = 0; i < cells.length; i++) {
+            PlayRecord play = plays.get(i);
+            cells[i] = cellBefore(previous, play);
+            wpCounts[cells[i]]++;
+            if (homeWon) {
+                homeWins[cells[i]]++;
+            }
+            previous = play;
+        }
+        return cells;
+    }
+
+    /**
+     * Sparse cells borrow the rate of their inning, half and lead pooled over all base/out states.
+     */
+    private static double[] smoothWinProbability(int[] wpCounts, int[] homeWins) {
+        double[] winProbability = new double[WP_CELLS];
+        for (int half = 0; half < INNINGS * 2; half++) {
+            for (int lead = 0; lead < LEADS; lead++) {
+                int pooledCount = 0, pooledWins = 0;
+                for (int state = 0; state < BASE_OUT_STATES; state++) {
+                    int cell = (half * BASE_OUT_STATES + state) * LEADS + lead;
+                    pooledCount += wpCounts[cell];
+                    pooledWins += homeWins[cell];
+                }
+                double pooled = pooledCount > 0 ? (double) pooledWins / pooledCount : Double.NaN;
+                for (int state = 0; state < BASE_OUT_STATES; state++) {
+                    int cell = (half * BASE_OUT_STATES + state) * LEADS + lead;
+                    winProbability[cell] = wpCounts[cell] >= MIN_SAMPLES
+                            ? (double) homeWins[cell] / wpCounts[cell]
+                            : pooled;
+                }
+            }
+        }
+        return winProbability;
+    }
+
+    /**
+     * Leverage of a state is the mean |WP swing| of the plate appearances that started in it, divided by
+     * the mean swing over all plate appearances. The last plate appearance swings to the final result.
+     */
+    private static double[] leverage(double[] winProbability, List<int[]> gameCells, List<Boolean> gameWinners) {
+        double[] swingSums = new double[WP_CELLS];
+        int[] swingCounts = new int[WP_CELLS];
+        double totalSwing = 0;
+        long total = 0;
+        for (int game = 0; game < gameCells.size(); game++) {
+            int[] cells = gameCells.get(game);
+            double outcome = gameWinners.get(game) ? 1.0 : 0.0;
+            for (int i = 0; i < cells.length; i++) {
+                double before = winProbability[cells[i]];
+                double after = i + 1 < cells.length ? winProbability[cells[i + 1]] : outcome;
+                if (Double.isNaN(before) || Double.isNaN(after)) {
+                    continue;
+                }
+                double swing = Math.abs(after - before);
+                swingSums[cells[i]] += swing;
+                swingCounts[cells[i]]++;
+                totalSwing += swing;
+                total++;
+            }
+        }
+
+        double[] leverage = new double[WP_CELLS];
+        double average = total > 0 ? totalSwing / total : 0;
+        for (int cell = 0; cell < WP_CELLS; cell++) {
+            leverage[cell] = swingCounts[cell] >= MIN_SAMPLES && average > 0
+                    ? swingSums[cell] / swingCounts[cell] / average
+                    : Double.NaN;
+        }
+        return leverage;
+    }
+
+    private static int cellBefore(PlayRecord previous, PlayRecord play) {
+        int homeLead = previous != null ? previous.getHomeScore() - previous.getAwayScore() : 0;
+        if (previous == null || !sameHalf(previous, play) || previous.getOuts() >= 3) {
+            return cell(play.getInning(), play.isTopInning(), 0, 0, homeLead);
+        }
+        return cell(play.getInning(), play.isTopInning(), previous.getOuts(), previous.getBases(), homeLead);
+    }
+
+    private static boolean sameHalf(PlayRecord a, PlayRecord b) {
+        return a.getInning() == b.getInning() && a.isTopInning() == b.isTopInning();
+    }
+
+    private static int battingScore(PlayRecord play) {
+        return battingScoreAfter(play, play.isTopInning());
+    }
+
+    private static int battingScoreAfter(PlayRecord play, boolean topInning) {
+        return topInning ? play.getAwayScore() : play.getHomeScore();
+    }
+
+    private void write(Tables rebuilt) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "win-expectancy", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(rebuilt.games);
+            writeArray(out, rebuilt.runExpectancy);
+            writeArray(out, rebuilt.winProbability);
+            writeArray(out, rebuilt.leverage);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static double[] readArray(DataInputStream in, int length) throws IOException {
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    private static void writeArray(DataOutputStream out, double[] values) throws IOException {
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+}
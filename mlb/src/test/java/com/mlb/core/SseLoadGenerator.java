@@ -0,0 +1,310 @@
+package com.mlb.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Opens many SSE subscribers against a running app, submits predictions at a fixed rate and writes a
+ * JSON report with delivery latency (ingestedAt to receipt), dropped connections and server heap/threads.
+ * Run with {@code ./gradlew loadTest -Pload.connections=2000 -Pload.endpoint=stream}. To compare execution
+ * models, run once against an app started with {@code --spring.threads.virtual.enabled=false} and once with
+ * the default, giving each run a {@code -Pload.label}, and compare {@code connections.maxConcurrent}.
+ */
+public class SseLoadGenerator {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080");
+    private final String endpoint = System.getProperty("load.endpoint", "live-feed");
+    private final String gameId = System.getProperty("load.gameId", "775296");
+    private final int connections = Integer.getInteger("load.connections", 1000);
+    private final Duration rampUp = Duration.parse(System.getProperty("load.rampUp", "PT30S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT5M"));
+    private final double predictionsPerSecond = Double.parseDouble(System.getProperty("load.predictionRate", "10"));
+    private final Path report = Path.of(System.getProperty("load.report", "build/reports/loadtest/report.json"));
+    private final String label = System.getProperty("load.label", "");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private final AtomicLong eventsReceived = new AtomicLong();
+    private final AtomicLong predictionsSent = new AtomicLong();
+    private final AtomicLong predictionsFailed = new AtomicLong();
+    private final AtomicLong maxHeapBytes = new AtomicLong();
+    private final AtomicLong maxLiveThreads = new AtomicLong();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final List<Long> predictionLatencies = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public static void main(String[] args) throws Exception {
+        new SseLoadGenerator().run();
+    }
+
+    /**
+     * Latencies of one connection. Recorded by its own thread, copied under the same lock by the report,
+     * which may run while a connection that ignored the shutdown is still recording.
+     */
+    private static class Subscriber {
+        private final String userId;
+        private long[] latencies = new long[64];
+        private int count;
+
+        private Subscriber(String userId) {
+            this.userId = userId;
+        }
+
+        private synchronized void record(long latencyMillis) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyMillis;
+        }
+
+        private synchronized long[] samples() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+
+    private void run() throws Exception {
+        Instant startedAt = Instant.now();
+        ExecutorService connectionThreads = Executors.newVirtualThreadPerTaskExecutor();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+        scheduler.scheduleAtFixedRate(this::sampleServer, 0, 1, TimeUnit.SECONDS);
+        if (predictionsPerSecond > 0) {
+            scheduler.scheduleAtFixedRate(() -> connectionThreads.submit(this::submitRandomPrediction),
+                    0, (long) (1_000_000 / predictionsPerSecond), TimeUnit.MICROSECONDS);
+        }
+
+        long rampDelayNanos = rampUp.toNanos() / Math.max(1, connections);
+        for (int i = 0; i < connections; i++) {
+            Subscriber subscriber = new Subscriber("load-" + i);
+            synchronized (subscribers) {
+                subscribers.add(subscriber);
+            }
+            connectionThreads.submit(() -> subscribe(subscriber));
+            TimeUnit.NANOSECONDS.sleep(rampDelayNanos);
+        }
+
+        TimeUnit.MILLISECONDS.sleep(Math.max(0, duration.minus(rampUp).toMillis()));
+        running = false;
+        scheduler.shutdownNow();
+        connectionThreads.shutdownNow();
+        if (!connectionThreads.awaitTermination(10, TimeUnit.SECONDS)) {
+            System.err.println("Some connections did not close within 10s, reporting the samples recorded so far");
+        }
+
+        writeReport(startedAt);
+        System.exit(0);
+    }
+
+    private void subscribe(Subscriber subscriber) {
+        String path = "stream".equals(endpoint)
+                ? "/games/game/" + gameId + "/stream?userId=" + subscriber.userId
+                : "/games/live-feed?gameId=" + gameId;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            if (response.statusCode() != 200) {
+                failed.incrementAndGet();
+                return;
+            }
+            opened.incrementAndGet();
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                if ("stream".equals(endpoint)) {
+                    // The replay waits for a first prediction before it starts
+                    submitPrediction(subscriber.userId);
+                }
+
+                StringBuilder data = new StringBuilder();
+                try (Stream<String> lines = response.body()) {
+                    for (String line : (Iterable<String>) lines::iterator) {
+                        if (!running) {
+                            return;
+                        }
+                        if (line.startsWith("data:")) {
+                            data.append(line.substring(5).trim());
+                        } else if (line.isEmpty() && !data.isEmpty()) {
+                            onEvent(subscriber, data.toString());
+                            data.setLength(0);
+                        }
+                    }
+                }
+                if (running) {
+                    dropped.incrementAndGet();
+                }
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        } catch (IOException e) {
+            if (running) {
+                dropped.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void onEvent(Subscriber subscriber, String data) {
+        long receivedAt = System.currentTimeMillis();
+        eventsReceived.incrementAndGet();
+        try {
+            JsonNode json = MAPPER.readTree(data);
+            JsonNode ingestedAt = json.has("ingestedAt") ? json.get("ingestedAt") : json.path("event").path("ingestedAt");
+            if (ingestedAt.canConvertToLong() && ingestedAt.asLong() > 0) {
+                subscriber.record(receivedAt - ingestedAt.asLong());
+            }
+        } catch (IOException e) {
+            // Metadata and prompt events are plain text
+        }
+    }
+
+    private void submitRandomPrediction() {
+        Subscriber subscriber;
+        synchronized (subscribers) {
+            if (subscribers.isEmpty()) {
+                return;
+            }
+            subscriber = subscribers.get(ThreadLocalRandom.current().nextInt(subscribers.size()));
+        }
+        submitPrediction(subscriber.userId);
+    }
+
+    private void submitPrediction(String userId) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/games/game/" + gameId + "/predict?userId=" + userId))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"prediction\":\"strikeout on a slider\"}"))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                predictionsSent.incrementAndGet();
+                synchronized (predictionLatencies) {
+                    predictionLatencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            } else {
+                predictionsFailed.incrementAndGet();
+            }
+        } catch (IOException e) {
+            predictionsFailed.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sampleServer() {
+        maxHeapBytes.accumulateAndGet(readMetric("jvm.memory.used?tag=area:heap"), Math::max);
+        maxLiveThreads.accumulateAndGet(readMetric("jvm.threads.live"), Math::max);
+    }
+
+    private long readMetric(String metric) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric)).build();
+            JsonNode json = MAPPER.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+            return json.path("measurements").path(0).path("value").asLong();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private void writeReport(Instant startedAt) throws IOException {
+        long[] latencies;
+        synchronized (subscribers) {
+            latencies = subscribers.stream()
+                    .flatMapToLong(subscriber -> Arrays.stream(subscriber.samples()))
+                    .sorted()
+                    .toArray();
+        }
+        long[] predictionMillis;
+        synchronized (predictionLatencies) {
+            predictionMillis = predictionLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        double seconds = Math.max(1, Duration.between(startedAt, Instant.now()).toMillis() / 1000.0);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", label);
+        result.put("startedAt", startedAt.toString());
+        result.put("config", Map.of(
+                "baseUrl", baseUrl,
+                "endpoint", endpoint,
+                "gameId", gameId,
+                "connections", connections,
+                "rampUp", rampUp.toString(),
+                "duration", duration.toString(),
+                "predictionsPerSecond", predictionsPerSecond));
+        result.put("connections", Map.of(
+                "opened", opened.get(),
+                "maxConcurrent", maxConcurrent.get(),
+                "failed", failed.get(),
+                "dropped", dropped.get()));
+        result.put("events", Map.of(
+                "received", eventsReceived.get(),
+                "perSecond", eventsReceived.get() / seconds));
+        result.put("deliveryLatencyMillis", percentiles(latencies));
+        result.put("predictions", Map.of(
+                "sent", predictionsSent.get(),
+                "failed", predictionsFailed.get(),
+                "latencyMillis", percentiles(predictionMillis)));
+        result.put("server", Map.of(
+                "maxHeapBytes", maxHeapBytes.get(),
+                "maxLiveThreads", maxLiveThreads.get()));
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        MAPPER.writeValue(report.toFile(), result);
+        System.out.println("Load test report written to " + report.toAbsolutePath());
+    }
+
+    private Map<String, Object> percentiles(long[] sorted) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", sorted.length);
+        values.put("p50", percentile(sorted, 0.50));
+        values.put("p99", percentile(sorted, 0.99));
+        values.put("p999", percentile(sorted, 0.999));
+        values.put("max", sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        return values;
+    }
+
+    private long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
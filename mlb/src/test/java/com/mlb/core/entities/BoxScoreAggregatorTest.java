@@ -0,0 +1,95 @@
+package com.mlb.core.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoxScoreAggregatorTest {
+
+    @Test
+    void foldsTeamTotalsAndPlayerLines() {
+        BoxScore box = fold(GameFixtures.firstInning().getLiveData().getPlays().getAllPlays());
+
+        assertThat(box.getThroughAtBatIndex()).isEqualTo(7);
+        assertThat(box.getAway().getRuns()).isEqualTo(2);
+        assertThat(box.getAway().getHits()).isEqualTo(2);
+        assertThat(box.getAway().getRunsByInning()).containsExactly(2);
+        assertThat(box.getHome().getRuns()).isEqualTo(1);
+        assertThat(box.getHome().getHits()).isEqualTo(2);
+        assertThat(box.getHome().getErrors()).isZero();
+        // The error is credited on both runners it moved but counts once, against the fielding team
+        assertThat(box.getAway().getErrors()).isEqualTo(1);
+
+        BoxScore.BattingLine homeRun = batting(box.getAway(), 103);
+        assertThat(homeRun.getName()).isEqualTo("Away Third");
+        assertThat(homeRun.getAtBats()).isEqualTo(1);
+        assertThat(homeRun.getHits()).isEqualTo(1);
+        assertThat(homeRun.getHomeRuns()).isEqualTo(1);
+        assertThat(homeRun.getRbi()).isEqualTo(2);
+        assertThat(homeRun.getRuns()).isEqualTo(1);
+        BoxScore.BattingLine walk = batting(box.getAway(), 105);
+        assertThat(walk.getPlateAppearances()).isEqualTo(1);
+        assertThat(walk.getAtBats()).isZero();
+        assertThat(walk.getWalks()).isEqualTo(1);
+        assertThat(batting(box.getAway(), 101).getStrikeouts()).isEqualTo(1);
+        assertThat(batting(box.getHome(), 301).getDoubles()).isEqualTo(1);
+
+        BoxScore.PitchingLine homeStarter = pitching(box.getHome(), 201);
+        assertThat(homeStarter.getInningsPitched()).isEqualTo("1.0");
+        assertThat(homeStarter.getBattersFaced()).isEqualTo(6);
+        assertThat(homeStarter.getHits()).isEqualTo(2);
+        assertThat(homeStarter.getRuns()).isEqualTo(2);
+        assertThat(homeStarter.getEarnedRuns()).isEqualTo(2);
+        assertThat(homeStarter.getWalks()).isEqualTo(1);
+        assertThat(homeStarter.getStrikeouts()).isEqualTo(1);
+        assertThat(homeStarter.getHomeRuns()).isEqualTo(1);
+        assertThat(homeStarter.getPitches()).isEqualTo(18);
+        BoxScore.PitchingLine awayStarter = pitching(box.getAway(), 401);
+        assertThat(awayStarter.getInningsPitched()).isEqualTo("0.0");
+        assertThat(awayStarter.getBattersFaced()).isEqualTo(2);
+        assertThat(awayStarter.getRuns()).isEqualTo(1);
+        assertThat(awayStarter.getPitches()).isEqualTo(5);
+    }
+
+    @Test
+    void ignoresPlaysAlreadyFolded() {
+        List<MLBGameFeed.PlayEvent> plays = GameFixtures.firstInning().getLiveData().getPlays().getAllPlays();
+        BoxScoreAggregator aggregator = new BoxScoreAggregator("fixture");
+        plays.subList(0, 4).forEach(aggregator::fold);
+        plays.forEach(aggregator::fold);
+
+        assertThat(aggregator.snapshot()).isEqualTo(fold(plays));
+    }
+
+    @Test
+    void foldsPlayWithoutMatchup() {
+        List<MLBGameFeed.PlayEvent> plays = GameFixtures.firstInning().getLiveData().getPlays().getAllPlays();
+        plays.get(2).setMatchup(null);
+
+        BoxScore box = fold(plays);
+
+        assertThat(box.getAway().getRuns()).isEqualTo(2);
+        assertThat(box.getAway().getHits()).isEqualTo(2);
+        // The batter is still credited with the run, but no plate appearance and no pitcher is charged
+        assertThat(batting(box.getAway(), 103).getPlateAppearances()).isZero();
+        assertThat(batting(box.getAway(), 103).getRuns()).isEqualTo(1);
+        assertThat(pitching(box.getHome(), 201).getBattersFaced()).isEqualTo(5);
+        assertThat(pitching(box.getHome(), 201).getRuns()).isZero();
+    }
+
+    private static BoxScore fold(List<MLBGameFeed.PlayEvent> plays) {
+        BoxScoreAggregator aggregator = new BoxScoreAggregator("fixture");
+        plays.forEach(aggregator::fold);
+        return aggregator.snapshot();
+    }
+
+    private static BoxScore.BattingLine batting(BoxScore.TeamBox team, int playerId) {
+        return team.getBatting().stream().filter(line -> line.getPlayerId() == playerId).findFirst().orElseThrow();
+    }
+
+    private static BoxScore.PitchingLine pitching(BoxScore.TeamBox team, int playerId) {
+        return team.getPitching().stream().filter(line -> line.getPlayerId() == playerId).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mlb.core.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+    private static final List<String> KEY_LIST = IntStream.range(0, KEYS)
+            .mapToObj(i -> String.valueOf(700_000 + i))
+            .collect(Collectors.toList());
+
+    @Test
+    void joiningNodeTakesAboutItsShareOfKeys() {
+        List<String> nodes = List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080");
+        ConsistentHashRing before = ConsistentHashRing.of(nodes, 128);
+        ConsistentHashRing after = ConsistentHashRing.of(
+                Stream.concat(nodes.stream(), Stream.of("http://e:8080")).collect(Collectors.toList()), 128);
+
+        int moved = 0;
+        for (String key : KEY_LIST) {
+            String owner = after.nodeFor(key);
+            if (!owner.equals(before.nodeFor(key))) {
+                moved++;
+                // Keys only move to the new node, never between the old ones
+                assertThat(owner).isEqualTo("http://e:8080");
+            }
+        }
+        assertThat((double) moved / KEYS).isCloseTo(1.0 / 5, within(0.05));
+    }
+
+    @Test
+    void leavingNodeHandsOverOnlyItsKeys() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("http://a:8080", "http://b:8080", "http://c:8080"), 128);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("http://a:8080", "http://b:8080"), 128);
+
+        for (String key : KEY_LIST) {
+            String owner = before.nodeFor(key);
+            if (!owner.equals("http://c:8080")) {
+                assertThat(after.nodeFor(key)).isEqualTo(owner);
+            }
+        }
+    }
+
+    @Test
+    void spreadsKeysEvenlyAndIndependentlyOfOrder() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("http://a:8080", "http://b:8080", "http://c:8080"), 128);
+        ConsistentHashRing reordered = ConsistentHashRing.of(Set.of("http://c:8080", "http://a:8080", "http://b:8080"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (String key : KEY_LIST) {
+            assertThat(reordered.nodeFor(key)).isEqualTo(ring.nodeFor(key));
+            counts.merge(ring.nodeFor(key), 1, Integer::sum);
+        }
+        assertThat(counts).hasSize(3);
+        counts.values().forEach(count -> assertThat((double) count / KEYS).isCloseTo(1.0 / 3, within(0.08)));
+    }
+
+    @Test
+    void emptyRingOwnsNothing() {
+        assertThat(ConsistentHashRing.of(List.of(), 128).nodeFor("745804")).isNull();
+    }
+}
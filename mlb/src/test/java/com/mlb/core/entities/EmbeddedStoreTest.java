@@ -0,0 +1,137 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversFromLogAlone() throws Exception {
+        EmbeddedStore store = open(directory, 1000);
+        store.add("events", "1", "a");
+        store.add("events", "1", "b");
+        store.put("games", "1", "final");
+        store.delete("games", "1");
+        store.close();
+
+        EmbeddedStore reopened = open(directory, 1000);
+        assertThat(values(reopened, "events", "1")).containsExactly("a", "b");
+        assertThat(reopened.load("games")).isEmpty();
+        reopened.close();
+    }
+
+    @Test
+    void skipsSnapshottedEntriesBySequenceAcrossRestarts() throws Exception {
+        // Every third entry triggers a snapshot, leaving later entries in the new log only
+        EmbeddedStore store = open(directory, 3);
+        for (String value : List.of("a", "b", "c", "d")) {
+            store.add("events", "1", value);
+        }
+        store.close();
+
+        EmbeddedStore reopened = open(directory, 3);
+        assertThat(values(reopened, "events", "1")).containsExactly("a", "b", "c", "d");
+        // Sequence numbers continue after the snapshot's, so these are replayed on the next start
+        reopened.add("events", "1", "e");
+        reopened.close();
+
+        EmbeddedStore again = open(directory, 3);
+        assertThat(values(again, "events", "1")).containsExactly("a", "b", "c", "d", "e");
+        again.close();
+    }
+
+    @Test
+    void crashBetweenSnapshotAndTruncateReplaysOnlyNewerEntries() throws Exception {
+        // The log as it was before the snapshot was taken: entries 1 to 3
+        Path unsnapshotted = Files.createDirectory(directory.resolve("log-only"));
+        EmbeddedStore logOnly = open(unsnapshotted, 1000);
+        for (String value : List.of("a", "b", "c")) {
+            logOnly.add("events", "1", value);
+        }
+        logOnly.close();
+
+        // A snapshot covering entries 1 and 2, whose log truncation never happened
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        EmbeddedStore snapshotted = open(crashed, 2);
+        snapshotted.add("events", "1", "a");
+        snapshotted.add("events", "1", "b");
+        snapshotted.close();
+        Files.copy(unsnapshotted.resolve("store.log"), crashed.resolve("store.log"), StandardCopyOption.REPLACE_EXISTING);
+
+        EmbeddedStore recovered = open(crashed, 1000);
+        assertThat(values(recovered, "events", "1")).containsExactly("a", "b", "c");
+        recovered.close();
+    }
+
+    @Test
+    void stopsAtTornTailAndAppendsAfterIt() throws Exception {
+        EmbeddedStore store = open(directory, 1000);
+        store.add("events", "1", "a");
+        store.add("events", "1", "b");
+        store.close();
+        Files.writeString(directory.resolve("store.log"), "{\"s\":3,\"op\":\"ADD\",\"c\":\"eve",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        EmbeddedStore recovered = open(directory, 1000);
+        assertThat(values(recovered, "events", "1")).containsExactly("a", "b");
+        recovered.add("events", "1", "c");
+        recovered.close();
+
+        // The torn bytes were cut off, so the entry written after recovery is on a line of its own
+        EmbeddedStore again = open(directory, 1000);
+        assertThat(values(again, "events", "1")).containsExactly("a", "b", "c");
+        again.close();
+    }
+
+    @Test
+    void endsCompleteEntryMissingItsNewline() throws Exception {
+        EmbeddedStore store = open(directory, 1000);
+        store.add("events", "1", "a");
+        store.close();
+        Path log = directory.resolve("store.log");
+        String content = Files.readString(log, StandardCharsets.UTF_8);
+        Files.writeString(log, content.substring(0, content.length() - 1), StandardCharsets.UTF_8);
+
+        EmbeddedStore recovered = open(directory, 1000);
+        assertThat(values(recovered, "events", "1")).containsExactly("a");
+        recovered.add("events", "1", "b");
+        recovered.close();
+
+        EmbeddedStore again = open(directory, 1000);
+        assertThat(values(again, "events", "1")).containsExactly("a", "b");
+        again.close();
+    }
+
+    private static EmbeddedStore open(Path directory, int snapshotEvery) throws IOException {
+        EmbeddedStore store = new EmbeddedStore(new ObjectMapper(), new SimpleMeterRegistry(), directory.toString(),
+                512, snapshotEvery);
+        store.open();
+        return store;
+    }
+
+    private static List<String> values(EmbeddedStore store, String collection, String key) {
+        List<String> values = new ArrayList<>();
+        JsonNode list = store.load(collection).get(key);
+        if (list != null) {
+            list.forEach(value -> values.add(value.asText()));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mlb.core.entities;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedResilienceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void opensCircuitAfterConsecutiveFailuresAndServesLastGood() {
+        FeedResilience resilience = resilience(0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+        assertThat(resilience.fetch("feed", "feed:1", counted(() -> Mono.just("good"))).block()).isEqualTo("good");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(resilience.fetch("feed", "feed:1", counted(() -> Mono.error(status(404)))).block())
+                    .isEqualTo("good");
+        }
+        // The third call found the circuit open and never reached statsapi
+        assertThat(attempts).hasValue(3);
+        assertThat(circuitOpen("feed")).isEqualTo(1.0);
+        assertThatThrownBy(() -> resilience.fetch("feed", null, counted(() -> Mono.just("never"))).block())
+                .hasMessageContaining("Circuit open for feed");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void endpointsHaveTheirOwnCircuit() {
+        FeedResilience resilience = resilience(0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.fetch("feed-archive", null, () -> Mono.error(status(404))).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        assertThat(circuitOpen("feed-archive")).isEqualTo(1.0);
+        assertThat(resilience.fetch("feed", "feed:1", counted(() -> Mono.just("live"))).block()).isEqualTo("live");
+        assertThat(circuitOpen("feed")).isZero();
+    }
+
+    @Test
+    void halfOpenTrialClosesCircuit() throws InterruptedException {
+        FeedResilience resilience = resilience(0, Duration.ofMillis(50), DataSize.ofMegabytes(1));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilience.fetch("feed", null, () -> Mono.error(status(404))).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(circuitOpen("feed")).isEqualTo(1.0);
+
+        Thread.sleep(100);
+        assertThat(resilience.fetch("feed", null, counted(() -> Mono.just("back"))).block()).isEqualTo("back");
+        assertThat(attempts).hasValue(1);
+        assertThat(circuitOpen("feed")).isZero();
+    }
+
+    @Test
+    void retriesTransientFailuresWithJitteredBackoff() {
+        FeedResilience resilience = resilience(0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+        long start = System.nanoTime();
+
+        String json = resilience.fetch("feed", null, counted(() -> attempts.get() < 3
+                ? Mono.error(status(503))
+                : Mono.just("recovered"))).block();
+
+        assertThat(json).isEqualTo("recovered");
+        assertThat(attempts).hasValue(3);
+        // Backoffs of 100ms then 200ms, each jittered by at most half
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        FeedResilience resilience = resilience(0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+
+        assertThatThrownBy(() -> resilience.fetch("feed", null, counted(() -> Mono.error(status(404)))).block())
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void hedgesSlowPrimary() {
+        FeedResilience resilience = resilience(1.0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+
+        String json = resilience.fetch("feed", null, counted(() -> attempts.get() == 1
+                ? Mono.just("slow").delayElement(Duration.ofSeconds(5))
+                : Mono.just("fast"))).block(Duration.ofSeconds(2));
+
+        assertThat(json).isEqualTo("fast");
+        assertThat(attempts).hasValue(2);
+        assertThat(meterRegistry.get("mlb.feed.hedges").tag("endpoint", "feed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void doesNotHedgeAfterPrimaryFailed() throws InterruptedException {
+        FeedResilience resilience = resilience(1.0, Duration.ofHours(1), DataSize.ofMegabytes(1));
+
+        assertThatThrownBy(() -> resilience.fetch("feed", null, counted(() -> Mono.error(status(404)))).block())
+                .isInstanceOf(WebClientResponseException.class);
+        Thread.sleep(100);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(meterRegistry.find("mlb.feed.hedges").counter()).isNull();
+    }
+
+    @Test
+    void keepsSnapshotsWithinSizeBudget() {
+        FeedResilience resilience = resilience(0, Duration.ofHours(1), DataSize.ofBytes(10));
+        resilience.fetch("feed", "feed:1", () -> Mono.just("0123456789")).block();
+        resilience.fetch("feed", "feed:2", () -> Mono.just("abcdef")).block();
+
+        assertThat(resilience.fetch("feed", "feed:2", () -> Mono.error(status(404))).block()).isEqualTo("abcdef");
+        // Evicted to make room for feed:2
+        assertThatThrownBy(() -> resilience.fetch("feed", "feed:1", () -> Mono.error(status(404))).block())
+                .isInstanceOf(WebClientResponseException.class);
+    }
+
+    /**
+     * Two retries after 100ms and 200ms, a hedge after 20ms when the budget allows, a circuit opening
+     * after 2 consecutive failures.
+     */
+    private FeedResilience resilience(double hedgeBudget, Duration openDuration, DataSize snapshotSize) {
+        return new FeedResilience(meterRegistry, Duration.ofSeconds(10), 2, Duration.ofMillis(100),
+                Duration.ofMillis(10), Duration.ofMillis(20), hedgeBudget, 2, openDuration, 32, snapshotSize);
+    }
+
+    private Supplier<Mono<String>> counted(Supplier<Mono<String>> request) {
+        return () -> {
+            attempts.incrementAndGet();
+            return request.get();
+        };
+    }
+
+    private double circuitOpen(String endpoint) {
+        return meterRegistry.get("mlb.feed.circuit.open").tag("endpoint", endpoint).gauge().value();
+    }
+
+    private static WebClientResponseException status(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
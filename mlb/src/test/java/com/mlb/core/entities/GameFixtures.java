@@ -0,0 +1,33 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Hand-built GUMBO feeds for unit tests.
+ */
+final class GameFixtures {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private GameFixtures() {
+    }
+
+    /**
+     * Top and bottom of the first inning: the away team scores 2 on a home run, the home team 1 on a
+     * double and a single with a fielding error, and the third home batter is still at the plate.
+     */
+    static MLBGameFeed firstInning() {
+        return read("/fixtures/first-inning.json");
+    }
+
+    static MLBGameFeed read(String resource) {
+        try (InputStream in = GameFixtures.class.getResourceAsStream(resource)) {
+            return OBJECT_MAPPER.readValue(in, MLBGameFeed.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
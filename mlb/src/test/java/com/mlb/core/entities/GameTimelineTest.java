@@ -0,0 +1,100 @@
+package com.mlb.core.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameTimelineTest {
+
+    private final GameTimeline timeline = GameTimeline.of("fixture", GameFixtures.firstInning());
+
+    @Test
+    void keepsCompletedPlaysOnly() {
+        assertThat(timeline.size()).isEqualTo(8);
+        assertThat(timeline.lastPlayEpochMillis()).isEqualTo(epoch("2024-10-31T00:26:00Z"));
+    }
+
+    @Test
+    void stateBeforeFirstPlay() {
+        GameStateSnapshot state = timeline.stateAt(epoch("2024-10-31T00:09:59Z"));
+
+        assertThat(state.getPlaysCompleted()).isZero();
+        assertThat(state.getLastAtBatIndex()).isEqualTo(-1);
+        assertThat(state.getAwayScore()).isZero();
+    }
+
+    @Test
+    void stateIncludesPlayEndingAtTheRequestedTime() {
+        GameStateSnapshot atHomeRun = timeline.stateAt(epoch("2024-10-31T00:14:00Z"));
+        assertThat(atHomeRun.getPlaysCompleted()).isEqualTo(3);
+        assertThat(atHomeRun.getAwayScore()).isEqualTo(2);
+        assertThat(atHomeRun.getAwayHits()).isEqualTo(2);
+        assertThat(atHomeRun.getBatter()).isEqualTo("Away Third");
+        assertThat(atHomeRun.getLastEvent()).isEqualTo("Home Run");
+
+        assertThat(timeline.stateAt(epoch("2024-10-31T00:15:59Z"))).isEqualTo(atHomeRun);
+    }
+
+    @Test
+    void stateAfterLastPlay() {
+        GameStateSnapshot state = timeline.stateAt(Long.MAX_VALUE);
+
+        assertThat(state.getPlaysCompleted()).isEqualTo(8);
+        assertThat(state.getLastAtBatIndex()).isEqualTo(7);
+        assertThat(state.getHalfInning()).isEqualTo("bottom");
+        assertThat(state.getAwayScore()).isEqualTo(2);
+        assertThat(state.getHomeScore()).isEqualTo(1);
+        assertThat(state.getHomeHits()).isEqualTo(2);
+        assertThat(state.getOuts()).isZero();
+    }
+
+    @Test
+    void stateAcrossKeyframes() {
+        int plays = GameTimeline.KEYFRAME_INTERVAL * 2 + 5;
+        GameTimeline singles = GameTimeline.of("singles", singles(plays));
+
+        for (int played : new int[]{GameTimeline.KEYFRAME_INTERVAL - 1, GameTimeline.KEYFRAME_INTERVAL,
+                GameTimeline.KEYFRAME_INTERVAL + 1, plays}) {
+            GameStateSnapshot state = singles.stateAt(epoch("2024-10-31T00:00:00Z") + played * 60_000L);
+            assertThat(state.getPlaysCompleted()).isEqualTo(played);
+            assertThat(state.getLastAtBatIndex()).isEqualTo(played - 1);
+            assertThat(state.getAwayHits()).isEqualTo(played);
+        }
+    }
+
+    /**
+     * A feed of away singles, play i ending i + 1 minutes after midnight UTC.
+     */
+    private static MLBGameFeed singles(int count) {
+        List<MLBGameFeed.PlayEvent> plays = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MLBGameFeed.About about = new MLBGameFeed.About();
+            about.setAtBatIndex(i);
+            about.setInning(1);
+            about.setHalfInning("top");
+            about.setComplete(true);
+            about.setEndTime(Instant.ofEpochMilli(epoch("2024-10-31T00:00:00Z") + (i + 1) * 60_000L).toString());
+            MLBGameFeed.Result result = new MLBGameFeed.Result();
+            result.setEventType("single");
+            MLBGameFeed.PlayEvent play = new MLBGameFeed.PlayEvent();
+            play.setAbout(about);
+            play.setResult(result);
+            plays.add(play);
+        }
+        MLBGameFeed.Plays allPlays = new MLBGameFeed.Plays();
+        allPlays.setAllPlays(plays);
+        MLBGameFeed.LiveData liveData = new MLBGameFeed.LiveData();
+        liveData.setPlays(allPlays);
+        MLBGameFeed feed = new MLBGameFeed();
+        feed.setLiveData(liveData);
+        return feed;
+    }
+
+    private static long epoch(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+}
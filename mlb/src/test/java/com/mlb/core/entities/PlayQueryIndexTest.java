@@ -0,0 +1,99 @@
+package com.mlb.core.entities;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayQueryIndexTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    private static PlayQueryIndex index;
+
+    /**
+     * The first-inning fixture archived twice, as game 1 of 2024 and game 2 of 2023: 8 completed plays each.
+     */
+    @BeforeAll
+    static void indexArchive() throws IOException {
+        PlayArchive archive = new PlayArchive(archiveDirectory.toString());
+        archive.write(2024, 1, records(1));
+        archive.write(2023, 2, records(2));
+        index = new PlayQueryIndex(archive);
+        index.rebuild();
+    }
+
+    @Test
+    void matchesEveryPlayWithoutPredicates() {
+        assertThat(index.query(new PlayQuery()).getTotal()).isEqualTo(16);
+    }
+
+    @Test
+    void intersectsPredicates() {
+        PlayQuery singles = new PlayQuery();
+        singles.setSeason(2024);
+        singles.setEventType("single");
+        PlayQueryResult result = index.query(singles);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getPlays()).extracting(PlayRecord::getAtBatIndex).containsExactly(1, 7);
+        assertThat(result.getPlays()).extracting(PlayRecord::getGamePk).containsOnly(1L);
+
+        PlayQuery awayStarter = new PlayQuery();
+        awayStarter.setPitcherId(401);
+        awayStarter.setInning(1);
+        assertThat(index.query(awayStarter).getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void filtersOnScoringPlays() {
+        PlayQuery scoring = new PlayQuery();
+        scoring.setSeason(2023);
+        scoring.setScoringPlay(true);
+        assertThat(index.query(scoring).getPlays()).extracting(PlayRecord::getEventType)
+                .containsExactly("home_run", "single");
+
+        PlayQuery notScoring = new PlayQuery();
+        notScoring.setScoringPlay(false);
+        assertThat(index.query(notScoring).getTotal()).isEqualTo(12);
+    }
+
+    @Test
+    void unknownValueMatchesNothing() {
+        PlayQuery query = new PlayQuery();
+        query.setBatterId(999);
+        assertThat(index.query(query).getTotal()).isZero();
+        assertThat(index.query(query).getPlays()).isEmpty();
+    }
+
+    @Test
+    void limitCapsPlaysButNotTotal() {
+        PlayQuery query = new PlayQuery();
+        query.setBalls(0);
+        query.setLimit(3);
+        PlayQueryResult result = index.query(query);
+        assertThat(result.getTotal()).isEqualTo(16);
+        assertThat(result.getPlays()).hasSize(3);
+    }
+
+    @Test
+    void matchupHistory() {
+        assertThat(index.matchupHistory(103, 201)).isEqualTo(Map.of(
+                "plateAppearances", 2, "hits", 2, "homeRuns", 2, "strikeouts", 0, "walks", 0));
+        assertThat(index.matchupHistory(101, 201)).containsEntry("strikeouts", 2);
+        assertThat(index.matchupHistory(101, 401)).isEmpty();
+    }
+
+    private static List<PlayRecord> records(long gamePk) {
+        return GameFixtures.firstInning().getLiveData().getPlays().getAllPlays().stream()
+                .filter(play -> play.getAbout().isComplete())
+                .map(play -> PlayRecord.of(gamePk, play))
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PredictionFeedbackBatcherTest {
+
+    private final PredictionFeedbackBatcher batcher = new PredictionFeedbackBatcher(null, null, new ObjectMapper(),
+            new SimpleMeterRegistry(), Duration.ofMillis(5), 50, "template");
+
+    @Test
+    void parsesPlainArray() {
+        assertThat(batcher.parse("[{\"id\": 0, \"feedback\": \"Close, it was a slider.\"}, {\"id\": 1, \"feedback\": \"Spot on.\"}]"))
+                .containsOnly(entry(0, "Close, it was a slider."), entry(1, "Spot on."));
+    }
+
+    @Test
+    void parsesFencedAnswer() {
+        String answer = """
+                Here is the feedback [as requested]:
+                ```json
+                [{"id": 0, "feedback": "Not quite [he took ball four]."}]
+                ```
+                """;
+
+        assertThat(batcher.parse(answer)).containsOnly(entry(0, "Not quite [he took ball four]."));
+    }
+
+    @Test
+    void skipsEntriesWithoutIdOrFeedback() {
+        String answer = "[{\"feedback\": \"no id\"}, {\"id\": \"two\", \"feedback\": \"bad id\"}, {\"id\": 3},"
+                + " {\"id\": 4, \"feedback\": 7}, {\"id\": 5, \"feedback\": \"kept\"}, {\"id\": 5, \"feedback\": \"repeat\"}]";
+
+        assertThat(batcher.parse(answer)).containsOnly(entry(5, "kept"));
+    }
+
+    @Test
+    void malformedAnswersYieldNothing() {
+        assertThat(batcher.parse(null)).isEmpty();
+        assertThat(batcher.parse("I can't help with that.")).isEmpty();
+        assertThat(batcher.parse("[{\"id\": 0, \"feedback\": \"cut off")).isEmpty();
+        assertThat(batcher.parse("] [")).isEmpty();
+        assertThat(batcher.parse("[{\"id\": 0, \"feedback\": \"trailing comma\"},]")).isEmpty();
+    }
+}
@@ -0,0 +1,26 @@
+package com.mlb.core.entities;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Wires the upstream stand-ins for load runs: {@code ./gradlew bootTestRun --args='--spring.profiles.active=standin'}.
+ */
+@Configuration
+@Profile("standin")
+public class StandInConfiguration {
+
+    @Bean
+    @Primary
+    public ChatModel stubChatModel(@Value("${standin.gemini.first-token-latency:400ms}") Duration firstTokenLatency,
+                                   @Value("${standin.gemini.per-token-latency:15ms}") Duration perTokenLatency,
+                                   @Value("${standin.gemini.response-tokens:60}") int responseTokens) {
+        return new StubChatModel(firstTokenLatency, perTokenLatency, responseTokens);
+    }
+}
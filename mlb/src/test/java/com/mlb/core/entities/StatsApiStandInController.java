@@ -0,0 +1,135 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for the statsapi paths we use, serving recorded games from {@code standin.statsapi.directory}
+ * (same layout as {@link ResourceFeedSource}) with injected latency, errors and payload growth.
+ * Latency is log-normal, parameterised by its median and p99.
+ */
+@Slf4j
+@RestController
+@Profile("standin")
+@RequestMapping(path = "/standin", produces = MediaType.APPLICATION_JSON_VALUE)
+public class StatsApiStandInController {
+    private static final double Z_99 = 2.326;
+    private static final Pattern SEASON = Pattern.compile("season=(\\d{4})");
+
+    private final ResourceFeedSource recordings;
+    private final ObjectMapper objectMapper;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double errorRate;
+    private final int payloadGrowthPlays;
+
+    private final Map<String, AtomicInteger> feedRequests = new ConcurrentHashMap<>();
+
+    public StatsApiStandInController(ObjectMapper objectMapper, PlayerRegistry playerRegistry,
+                                     @Value("${standin.statsapi.directory:${mlb.feed.directory:recordings}}") String directory,
+                                     @Value("${standin.statsapi.latency.median:80ms}") Duration medianLatency,
+                                     @Value("${standin.statsapi.latency.p99:800ms}") Duration p99Latency,
+                                     @Value("${standin.statsapi.error-rate:0.0}") double errorRate,
+                                     @Value("${standin.statsapi.payload-growth-plays:0}") int payloadGrowthPlays) {
+        this.recordings = new ResourceFeedSource(objectMapper, playerRegistry, directory);
+        this.objectMapper = objectMapper;
+        this.latencyMu = Math.log(Math.max(1, medianLatency.toMillis()));
+        this.latencySigma = Math.max(0, (Math.log(Math.max(1, p99Latency.toMillis())) - latencyMu) / Z_99);
+        this.errorRate = errorRate;
+        this.payloadGrowthPlays = payloadGrowthPlays;
+    }
+
+    @GetMapping("/api/v1.1/game/{gameId}/feed/live/timestamps")
+    public Mono<ResponseEntity<String>> timestamps(@PathVariable String gameId) {
+        return respond(recordings.getTimestampsJson(gameId));
+    }
+
+    @GetMapping("/api/v1.1/game/{gameId}/feed/live")
+    public Mono<ResponseEntity<String>> feed(@PathVariable String gameId,
+                                             @RequestParam(required = false) String timecode) {
+        Mono<String> feed = recordings.getFeedJson(gameId, timecode);
+        if (payloadGrowthPlays > 0 && timecode == null) {
+            int request = feedRequests.computeIfAbsent(gameId, id -> new AtomicInteger()).incrementAndGet();
+            feed = feed.map(json -> grow(json, request * payloadGrowthPlays));
+        }
+        return respond(feed);
+    }
+
+    @GetMapping("/api/v1/schedule")
+    public Mono<ResponseEntity<String>> schedule(@RequestParam(required = false) String startDate,
+                                                 @RequestParam(required = false) String endDate,
+                                                 @RequestParam int season) {
+        return respond(startDate != null && endDate != null
+                ? recordings.getScheduleJson(startDate, endDate)
+                : recordings.getSeasonScheduleJson(season));
+    }
+
+    @GetMapping("/api/v1/people")
+    public Mono<ResponseEntity<String>> people(@RequestParam List<Integer> personIds, @RequestParam String hydrate) {
+        Matcher season = SEASON.matcher(hydrate);
+        return season.find()
+                ? respond(recordings.getPeopleJson(personIds, Integer.parseInt(season.group(1))))
+                : Mono.just(ResponseEntity.badRequest().build());
+    }
+
+    private Mono<ResponseEntity<String>> respond(Mono<String> body) {
+        Duration latency = Duration.ofMillis(Math.round(
+                Math.exp(latencyMu + latencySigma * ThreadLocalRandom.current().nextGaussian())));
+
+        Mono<ResponseEntity<String>> response = ThreadLocalRandom.current().nextDouble() < errorRate
+                ? Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<String>build())
+                : body.map(ResponseEntity::ok)
+                .onErrorResume(error -> Mono.just(ResponseEntity.notFound().build()));
+        return response.delayElement(latency);
+    }
+
+    /**
+     * Appends copies of recorded plays so the latest feed keeps growing the way a live game does.
+     */
+    private String grow(String json, int extraPlays) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            JsonNode allPlays = root.path("liveData").path("plays").path("allPlays");
+            if (!(allPlays instanceof ArrayNode plays) || plays.isEmpty()) {
+                return json;
+            }
+
+            int recorded = plays.size();
+            for (int i = 0; i < extraPlays; i++) {
+                ObjectNode copy = plays.get(i % recorded).deepCopy();
+                ObjectNode about = (ObjectNode) copy.path("about");
+                about.put("atBatIndex", recorded + i);
+                about.put("isComplete", true);
+                copy.put("atBatIndex", recorded + i);
+                plays.add(copy);
+            }
+            return objectMapper.writeValueAsString(root);
+        } catch (Exception e) {
+            log.warn("Unable to grow stand-in payload: {}", e.getMessage());
+            return json;
+        }
+    }
+}
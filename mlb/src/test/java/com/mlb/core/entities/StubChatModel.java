@@ -0,0 +1,47 @@
+package com.mlb.core.entities;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini stand-in for {@link PersonalMlbCommentator}: canned commentary after a simulated
+ * time-to-first-token plus per-token generation latency.
+ */
+public class StubChatModel implements ChatModel {
+    private static final List<String> LINES = List.of(
+            "What a moment here at the ballpark! The crowd is on its feet.",
+            "Routine play, but the defense made it look easy.",
+            "The pitcher is working this count carefully. What do you think comes next?",
+            "That changes the complexion of this inning. Do you see a fastball coming?");
+
+    private final Duration firstTokenLatency;
+    private final Duration perTokenLatency;
+    private final int responseTokens;
+    private final AtomicLong calls = new AtomicLong();
+
+    public StubChatModel(Duration firstTokenLatency, Duration perTokenLatency, int responseTokens) {
+        this.firstTokenLatency = firstTokenLatency;
+        this.perTokenLatency = perTokenLatency;
+        this.responseTokens = responseTokens;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        long call = calls.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(firstTokenLatency.toNanos() + perTokenLatency.toNanos() * responseTokens);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String text = LINES.get((int) (call % LINES.size()));
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -0,0 +1,65 @@
+package com.mlb.core.entities;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimecodeIndexTest {
+
+    // Timecodes of the recorded game bundled with the app
+    private static TimecodeIndex index;
+
+    @BeforeAll
+    static void loadRecordedTimecodes() throws IOException {
+        try (InputStream in = TimecodeIndexTest.class.getResourceAsStream("/timestamp.json")) {
+            index = TimecodeIndex.of(new ObjectMapper().readValue(in, new TypeReference<List<String>>() {
+            }));
+        }
+    }
+
+    @Test
+    void indexesRecordedTimecodes() {
+        assertThat(index.size()).isEqualTo(589);
+        assertThat(index.timecode(0)).isEqualTo("20241030_193800");
+        assertThat(index.last()).isEqualTo("20241031_035152");
+        assertThat(TimecodeIndex.toTimecode(index.epochMillis(100))).isEqualTo(index.timecode(100));
+    }
+
+    @Test
+    void indexAfterBounds() {
+        assertThat(index.indexAfter(null)).isZero();
+        assertThat(index.indexAfter("20241030_000000")).isZero();
+        assertThat(index.indexAfter("20241030_193800")).isEqualTo(1);
+        assertThat(index.indexAfter("20241031_004409")).isEqualTo(101);
+        // Between the timecodes at 100 and 101
+        assertThat(index.indexAfter("20241031_004410")).isEqualTo(101);
+        assertThat(index.indexAfter("20241031_035152")).isEqualTo(index.size());
+    }
+
+    @Test
+    void floorIndexBounds() {
+        long first = TimecodeIndex.toEpochMillis("20241030_193800");
+        assertThat(index.floorIndex(first - 1)).isEqualTo(-1);
+        assertThat(index.floorIndex(first)).isZero();
+        assertThat(index.floorIndex(TimecodeIndex.toEpochMillis("20241031_004410"))).isEqualTo(100);
+        assertThat(index.floorIndex(Long.MAX_VALUE)).isEqualTo(index.size() - 1);
+    }
+
+    @Test
+    void sortsDeduplicatesAndSkipsMalformedTimecodes() {
+        TimecodeIndex small = TimecodeIndex.of(List.of(
+                "20241031_000957", "not-a-timecode", "20241031_000927", "20241031_000927", "20241399_000000", ""));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.timecode(0)).isEqualTo("20241031_000927");
+        assertThat(small.last()).isEqualTo("20241031_000957");
+        assertThat(TimecodeIndex.of(null).isEmpty()).isTrue();
+    }
+}
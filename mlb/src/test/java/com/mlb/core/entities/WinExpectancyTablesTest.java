@@ -0,0 +1,117 @@
+package com.mlb.core.entities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WinExpectancyTablesTest {
+
+    private static final int HOME_WINS = 30;
+    private static final int AWAY_WINS = 10;
+
+    @TempDir
+    Path directory;
+
+    private PlayArchive archive;
+    private Path tablesFile;
+
+    /**
+     * Two one-inning games, archived {@link #HOME_WINS} and {@link #AWAY_WINS} times: the home team wins
+     * on a bottom-of-the-first home run after a scoreless top half, or the away team wins on a leadoff
+     * home run. Every game starts at (1st, top, 0 outs, empty, tied), so the home team wins 75% from there.
+     */
+    @BeforeEach
+    void archiveGames() throws IOException {
+        archive = new PlayArchive(directory.resolve("archive").toString());
+        tablesFile = directory.resolve("win-expectancy.tables");
+        for (int game = 0; game < HOME_WINS + AWAY_WINS; game++) {
+            archive.write(2024, game, game < HOME_WINS ? homeWin(game) : awayWin(game));
+        }
+    }
+
+    @Test
+    void defaultsBeforeRebuild() {
+        WinExpectancyTables tables = new WinExpectancyTables(archive, tablesFile.toString());
+        tables.load();
+
+        assertThat(tables.getGamesSampled()).isZero();
+        assertThat(tables.runExpectancy(0, 0)).isEqualTo(0.481);
+        assertThat(tables.homeWinProbability(1, true, 0, 0, 0)).isNaN();
+        assertThat(new GameStateEngine(tables).toContext()).containsOnlyKeys("runExpectancy");
+    }
+
+    @Test
+    void rebuildsFromArchivedGames() throws IOException {
+        WinExpectancyTables tables = new WinExpectancyTables(archive, tablesFile.toString());
+        tables.rebuild();
+
+        assertThat(tables.getGamesSampled()).isEqualTo(HOME_WINS + AWAY_WINS);
+        assertThat(tables.homeWinProbability(1, true, 0, 0, 0)).isEqualTo(0.75);
+        assertThat(tables.homeWinProbability(1, false, 0, 0, 0)).isEqualTo(1.0);
+        // Only AWAY_WINS samples, below the minimum: pooled over the half-inning and lead
+        assertThat(tables.homeWinProbability(1, true, 0, 0, -1)).isEqualTo(0.0);
+        // 10 runs from 50 plate appearances that started with nobody on and nobody out
+        assertThat(tables.runExpectancy(0, 0)).isCloseTo(0.2, within(1e-9));
+        assertThat(tables.runExpectancy(1, 0)).isEqualTo(0.254);
+
+        WinExpectancyTables reloaded = new WinExpectancyTables(archive, tablesFile.toString());
+        reloaded.load();
+        assertThat(reloaded.getGamesSampled()).isEqualTo(HOME_WINS + AWAY_WINS);
+        assertThat(reloaded.homeWinProbability(1, true, 0, 0, 0)).isEqualTo(0.75);
+    }
+
+    @Test
+    void engineTracksWinProbabilityDeltas() throws IOException {
+        WinExpectancyTables tables = new WinExpectancyTables(archive, tablesFile.toString());
+        tables.rebuild();
+
+        GameStateEngine homeWin = new GameStateEngine(tables);
+        assertThat(homeWin.homeWinProbability()).isEqualTo(0.75);
+        homeWin.apply(homeWin(0).get(0));
+        assertThat(homeWin.winProbabilityAdded()).isCloseTo(0.25, within(1e-9));
+        assertThat(homeWin.homeWinProbability()).isEqualTo(1.0);
+        // Swings from the opening state average 0.375 against 0.1875 over all plate appearances
+        assertThat(homeWin.leverageIndex()).isCloseTo(2.0, within(1e-9));
+
+        GameStateEngine awayWin = new GameStateEngine(tables);
+        awayWin.apply(awayWin(0).get(0));
+        assertThat(awayWin.winProbabilityAdded()).isCloseTo(-0.75, within(1e-9));
+        assertThat(awayWin.toContext()).containsEntry("homeWinProbability", 0.0)
+                .containsEntry("winProbabilityAdded", -0.75)
+                .containsEntry("leverageIndex", 2.0);
+    }
+
+    private static List<PlayRecord> homeWin(long gamePk) {
+        return List.of(
+                play(gamePk, 0, true, "field_out", 3, 0, 0),
+                play(gamePk, 1, false, "home_run", 0, 0, 1));
+    }
+
+    private static List<PlayRecord> awayWin(long gamePk) {
+        return List.of(
+                play(gamePk, 0, true, "home_run", 0, 1, 0),
+                play(gamePk, 1, true, "field_out", 3, 1, 0));
+    }
+
+    private static PlayRecord play(long gamePk, int atBatIndex, boolean topInning, String eventType, int outs,
+                                   int awayScore, int homeScore) {
+        PlayRecord play = new PlayRecord();
+        play.setGamePk(gamePk);
+        play.setAtBatIndex(atBatIndex);
+        play.setInning(1);
+        play.setTopInning(topInning);
+        play.setEventType(eventType);
+        play.setOuts(outs);
+        play.setAwayScore(awayScore);
+        play.setHomeScore(homeScore);
+        play.setScoringPlay("home_run".equals(eventType));
+        return play;
+    }
+}